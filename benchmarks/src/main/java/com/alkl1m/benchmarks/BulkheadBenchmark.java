@@ -0,0 +1,79 @@
+package com.alkl1m.benchmarks;
+
+import com.alkl1m.benchmarks.support.AdvisedProxies;
+import com.alkl1m.bulkhead.annotation.Bulkhead;
+import com.alkl1m.bulkhead.aspect.BulkheadAspect;
+import com.alkl1m.bulkhead.exception.BulkheadException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Накладные расходы {@link BulkheadAspect} на вызов.
+ * <ul>
+ *   <li>{@code baseline} - вызов без прокси</li>
+ *   <li>{@code permitted} - разрешение захватывается без ожидания</li>
+ *   <li>{@code rejected} - разрешений нет, вызов отклоняется без ожидания</li>
+ * </ul>
+ *
+ * @author AlKl1M
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkheadBenchmark {
+
+    private Service baseline;
+    private Service advised;
+
+    @Setup
+    public void setup() {
+        baseline = new Service();
+        advised = AdvisedProxies.advise(new Service(), new BulkheadAspect());
+    }
+
+    @Benchmark
+    public int baseline() {
+        return baseline.permitted();
+    }
+
+    @Benchmark
+    public int permitted() {
+        return advised.permitted();
+    }
+
+    @Benchmark
+    public Object rejected() {
+        try {
+            return advised.rejected();
+        } catch (BulkheadException e) {
+            return e;
+        }
+    }
+
+    public static class Service {
+
+        @Bulkhead(maxConcurrentCalls = Integer.MAX_VALUE, timeoutMs = 0)
+        public int permitted() {
+            return 42;
+        }
+
+        @Bulkhead(maxConcurrentCalls = 0, timeoutMs = 0)
+        public int rejected() {
+            return 42;
+        }
+    }
+
+}
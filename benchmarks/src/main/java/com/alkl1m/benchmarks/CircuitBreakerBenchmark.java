@@ -0,0 +1,100 @@
+package com.alkl1m.benchmarks;
+
+import com.alkl1m.benchmarks.support.AdvisedProxies;
+import com.alkl1m.benchmarks.support.SimulatedFailure;
+import com.alkl1m.circuitbreaker.annotation.CircuitBreaker;
+import com.alkl1m.circuitbreaker.aspect.CircuitBreakerAspect;
+import com.alkl1m.circuitbreaker.exception.CircuitBreakerOpenException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Накладные расходы {@link CircuitBreakerAspect} на вызов.
+ * <ul>
+ *   <li>{@code baseline} - вызов без прокси</li>
+ *   <li>{@code closed} - цепь замкнута, вызов успешен</li>
+ *   <li>{@code open} - цепь разомкнута, вызов отклоняется</li>
+ *   <li>{@code failing} - цепь замкнута, вызов падает (порог недостижим)</li>
+ * </ul>
+ *
+ * @author AlKl1M
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CircuitBreakerBenchmark {
+
+    private Service baseline;
+    private Service advised;
+
+    @Setup
+    public void setup() {
+        baseline = new Service();
+        advised = AdvisedProxies.advise(new Service(), new CircuitBreakerAspect());
+        try {
+            advised.open();
+        } catch (SimulatedFailure e) {
+            // первая ошибка размыкает цепь метода open()
+        }
+    }
+
+    @Benchmark
+    public int baseline() {
+        return baseline.closed();
+    }
+
+    @Benchmark
+    public int closed() {
+        return advised.closed();
+    }
+
+    @Benchmark
+    public Object open() {
+        try {
+            return advised.open();
+        } catch (CircuitBreakerOpenException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object failing() {
+        try {
+            return advised.failing();
+        } catch (SimulatedFailure e) {
+            return e;
+        }
+    }
+
+    public static class Service {
+
+        @CircuitBreaker
+        public int closed() {
+            return 42;
+        }
+
+        @CircuitBreaker(failureThreshold = 1, timeout = Long.MAX_VALUE)
+        public int open() {
+            throw SimulatedFailure.INSTANCE;
+        }
+
+        @CircuitBreaker(failureThreshold = Integer.MAX_VALUE)
+        public int failing() {
+            throw SimulatedFailure.INSTANCE;
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.alkl1m.benchmarks;
+
+import com.alkl1m.benchmarks.support.AdvisedProxies;
+import com.alkl1m.bulkhead.annotation.Bulkhead;
+import com.alkl1m.bulkhead.aspect.BulkheadAspect;
+import com.alkl1m.circuitbreaker.annotation.CircuitBreaker;
+import com.alkl1m.circuitbreaker.aspect.CircuitBreakerAspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Масштабирование пропускной способности по числу потоков.
+ * <p>
+ * Все потоки вызывают один и тот же метод, поэтому конкурируют за один {@code CircuitBreakerState}
+ * (монитор) или один {@code Semaphore} bulkhead. Число потоков задается ключом JMH {@code -t}:
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar ContentionBenchmark -t 4 -prof gc
+ * </pre>
+ * Полную кривую масштабирования (1, 2, 4 и 8 потоков) снимает {@link #main(String[])}:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.alkl1m.benchmarks.ContentionBenchmark -prof gc
+ * </pre>
+ *
+ * @author AlKl1M
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentionBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+
+    private Service circuitBreaker;
+    private Service bulkhead;
+
+    @Setup
+    public void setup() {
+        circuitBreaker = AdvisedProxies.advise(new Service(), new CircuitBreakerAspect());
+        bulkhead = AdvisedProxies.advise(new Service(), new BulkheadAspect());
+    }
+
+    @Benchmark
+    public int circuitBreaker() {
+        return circuitBreaker.guarded();
+    }
+
+    @Benchmark
+    public int bulkhead() {
+        return bulkhead.limited();
+    }
+
+    /**
+     * Прогоняет оба бенчмарка последовательно на 1, 2, 4 и 8 потоках.
+     *
+     * @param args дополнительные аргументы командной строки JMH, например {@code -prof gc}
+     * @throws Exception если JMH не смог выполнить прогон
+     */
+    public static void main(String[] args) throws Exception {
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .parent(new CommandLineOptions(args))
+                    .include(ContentionBenchmark.class.getName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+
+    public static class Service {
+
+        @CircuitBreaker
+        public int guarded() {
+            return 42;
+        }
+
+        @Bulkhead(maxConcurrentCalls = Integer.MAX_VALUE, timeoutMs = 0)
+        public int limited() {
+            return 42;
+        }
+    }
+
+}
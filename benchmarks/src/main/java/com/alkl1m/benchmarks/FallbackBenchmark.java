@@ -0,0 +1,79 @@
+package com.alkl1m.benchmarks;
+
+import com.alkl1m.benchmarks.support.AdvisedProxies;
+import com.alkl1m.benchmarks.support.SimulatedFailure;
+import com.alkl1m.fallback.annotation.Fallback;
+import com.alkl1m.fallback.aspect.FallbackAspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Накладные расходы {@link FallbackAspect} на вызов.
+ * <ul>
+ *   <li>{@code baseline} - вызов без прокси</li>
+ *   <li>{@code success} - исходный метод успешен, резервный не вызывается</li>
+ *   <li>{@code fallbackDispatch} - исходный метод падает, вызывается резервный</li>
+ * </ul>
+ *
+ * @author AlKl1M
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FallbackBenchmark {
+
+    private Service baseline;
+    private Service advised;
+
+    @Setup
+    public void setup() {
+        baseline = new Service();
+        advised = AdvisedProxies.advise(new Service(), new FallbackAspect());
+    }
+
+    @Benchmark
+    public String baseline() {
+        return baseline.success("id");
+    }
+
+    @Benchmark
+    public String success() {
+        return advised.success("id");
+    }
+
+    @Benchmark
+    public String fallbackDispatch() {
+        return advised.failing("id");
+    }
+
+    public static class Service {
+
+        @Fallback(fallbackMethod = "fallback")
+        public String success(String id) {
+            return id;
+        }
+
+        @Fallback(fallbackMethod = "fallback")
+        public String failing(String id) {
+            throw SimulatedFailure.INSTANCE;
+        }
+
+        public String fallback(String id) {
+            return id;
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.alkl1m.benchmarks;
+
+import com.alkl1m.benchmarks.support.AdvisedProxies;
+import com.alkl1m.benchmarks.support.SimulatedFailure;
+import com.alkl1m.retry.annotation.Retryable;
+import com.alkl1m.retry.aspect.RetryAspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Накладные расходы {@link RetryAspect} на вызов.
+ * <ul>
+ *   <li>{@code baseline} - вызов без прокси</li>
+ *   <li>{@code success} - успешный вызов с первой попытки</li>
+ *   <li>{@code retryOnce} - первая попытка падает, вторая успешна (backoff = 0)</li>
+ * </ul>
+ * Состояние на поток, так как {@code retryOnce} хранит признак ошибки в цели.
+ *
+ * @author AlKl1M
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RetryBenchmark {
+
+    private Service baseline;
+    private Service advised;
+
+    @Setup
+    public void setup() {
+        baseline = new Service();
+        advised = AdvisedProxies.advise(new Service(), new RetryAspect());
+    }
+
+    @Benchmark
+    public int baseline() {
+        return baseline.success();
+    }
+
+    @Benchmark
+    public int success() {
+        return advised.success();
+    }
+
+    @Benchmark
+    public int retryOnce() {
+        return advised.failOnce();
+    }
+
+    public static class Service {
+        private boolean failNext = true;
+
+        @Retryable(maxAttempts = 3, backoff = 0)
+        public int success() {
+            return 42;
+        }
+
+        @Retryable(maxAttempts = 3, backoff = 0)
+        public int failOnce() {
+            if (failNext) {
+                failNext = false;
+                throw SimulatedFailure.INSTANCE;
+            }
+            failNext = true;
+            return 42;
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.alkl1m.benchmarks;
+
+import com.alkl1m.bulkhead.annotation.Bulkhead;
+import com.alkl1m.bulkhead.configuration.BulkheadConfiguration;
+import com.alkl1m.circuitbreaker.annotation.CircuitBreaker;
+import com.alkl1m.circuitbreaker.configuration.CircuitBreakerConfiguration;
+import com.alkl1m.fallback.annotation.Fallback;
+import com.alkl1m.fallback.configuration.FallbackConfiguration;
+import com.alkl1m.retry.annotation.Retryable;
+import com.alkl1m.retry.configuration.RetryConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Холодный старт Spring-контекста с {@value #SERVICES} бинами, у каждого из которых есть методы
+ * со всеми четырьмя аннотациями, в двух режимах {@code resilience.aop.mode}:
+ * <ul>
+ *   <li>{@code proxy} - при старте для каждого бина подбираются advisor-ы и создается CGLIB-прокси</li>
+ *   <li>{@code aspectj} - аспекты вплетаются агентом load-time weaving при загрузке классов
+ *   ({@code META-INF/aop-startup.xml}), прокси не создаются</li>
+ * </ul>
+ * Каждый замер - отдельная JVM без прогрева: запуск контекста и первый вызов каждого метода,
+ * включая загрузку классов и вплетение. Агент копируется в {@code benchmarks/target} при сборке,
+ * поэтому запуск - из корня репозитория:
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar StartupBenchmark
+ * </pre>
+ *
+ * @author AlKl1M
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class StartupBenchmark {
+
+    static final int SERVICES = 100;
+
+    @Benchmark
+    @Fork(10)
+    public int proxy() {
+        return startAndCall("proxy");
+    }
+
+    @Benchmark
+    @Fork(value = 10, jvmArgsAppend = {
+            "-javaagent:benchmarks/target/aspectjweaver.jar",
+            "-Dorg.aspectj.weaver.loadtime.configuration=META-INF/aop-startup.xml"})
+    public int aspectj() {
+        return startAndCall("aspectj");
+    }
+
+    private static int startAndCall(String mode) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StartupConfig.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties("resilience.aop.mode=" + mode, "spring.main.banner-mode=off")
+                .initializers(StartupBenchmark::registerServices)
+                .run()) {
+            int sum = 0;
+            for (Service service : context.getBeansOfType(Service.class).values()) {
+                sum += service.retry() + service.circuitBreaker() + service.bulkhead() + service.fallback();
+            }
+            return sum;
+        }
+    }
+
+    private static void registerServices(ConfigurableApplicationContext context) {
+        GenericApplicationContext registry = (GenericApplicationContext) context;
+        for (int i = 0; i < SERVICES; i++) {
+            registry.registerBean("service" + i, Service.class);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    @Import({RetryConfiguration.class, CircuitBreakerConfiguration.class,
+            BulkheadConfiguration.class, FallbackConfiguration.class})
+    public static class StartupConfig {
+    }
+
+    public static class Service {
+
+        @Retryable(maxAttempts = 3, backoff = 0)
+        public int retry() {
+            return 1;
+        }
+
+        @CircuitBreaker(failureThreshold = 3)
+        public int circuitBreaker() {
+            return 1;
+        }
+
+        @Bulkhead(maxConcurrentCalls = 10, timeoutMs = 0)
+        public int bulkhead() {
+            return 1;
+        }
+
+        @Fallback(fallbackMethod = "fallbackValue")
+        public int fallback() {
+            return 1;
+        }
+
+        public int fallbackValue() {
+            return 0;
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.alkl1m.benchmarks.support;
+
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+/**
+ * Создание прокси с аспектом без поднятия Spring-контекста.
+ * <p>
+ * Используется тот же механизм Spring AOP, что и в приложении, поэтому бенчмарк измеряет
+ * реальную стоимость вызова через прокси и advice.
+ *
+ * @author AlKl1M
+ */
+public final class AdvisedProxies {
+
+    private AdvisedProxies() {
+    }
+
+    /**
+     * Оборачивает цель в CGLIB-прокси с указанным аспектом.
+     *
+     * @param target цель
+     * @param aspect экземпляр аспекта
+     * @param <T>    тип цели
+     * @return прокси над целью
+     */
+    public static <T> T advise(T target, Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+}
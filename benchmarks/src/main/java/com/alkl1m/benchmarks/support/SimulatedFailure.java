@@ -0,0 +1,18 @@
+package com.alkl1m.benchmarks.support;
+
+/**
+ * Заранее созданное исключение без стектрейса.
+ * <p>
+ * Позволяет измерять накладные расходы аспектов на пути ошибки, а не стоимость заполнения стектрейса.
+ *
+ * @author AlKl1M
+ */
+public final class SimulatedFailure extends RuntimeException {
+
+    public static final SimulatedFailure INSTANCE = new SimulatedFailure();
+
+    private SimulatedFailure() {
+        super("Simulated failure", null, false, false);
+    }
+
+}
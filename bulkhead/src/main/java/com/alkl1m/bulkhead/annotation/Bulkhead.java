@@ -1,5 +1,7 @@
 package com.alkl1m.bulkhead.annotation;
 
+import com.alkl1m.bulkhead.enums.Priority;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -7,6 +9,13 @@ import java.lang.annotation.Target;
 
 /**
  * Аннотация для аспекта bulkhead.
+ * <p>
+ * Если задано имя {@link #name()}, параметры можно переопределить во внешней конфигурации
+ * ({@code resilience.bulkhead.<name>.*}). Имя выбирает только политику: каждый метод сохраняет
+ * собственный семафор, и методы с одинаковым именем получают одинаковый лимит, а не общий.
+ * <p>
+ * {@link #priority()} определяет порядок сброса нагрузки при перегрузке JVM
+ * (см. {@link com.alkl1m.bulkhead.overload.OverloadDetector}).
  *
  * @author AlKl1M
  */
@@ -14,8 +23,12 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Bulkhead {
 
+    String name() default "";
+
     int maxConcurrentCalls() default 2;
 
     long timeoutMs() default 1000;
 
+    Priority priority() default Priority.NORMAL;
+
 }
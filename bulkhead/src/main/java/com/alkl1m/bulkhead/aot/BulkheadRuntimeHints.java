@@ -0,0 +1,24 @@
+package com.alkl1m.bulkhead.aot;
+
+import com.alkl1m.bulkhead.annotation.Bulkhead;
+import com.alkl1m.bulkhead.aspect.BulkheadAspect;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Подсказки native-image для {@link Bulkhead}: атрибуты аннотации читаются при связывании точки среза,
+ * а {@link BulkheadAspect} нужен для вызова advice-методов.
+ *
+ * @author AlKl1M
+ */
+public class BulkheadRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(Bulkhead.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(BulkheadAspect.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS);
+    }
+
+}
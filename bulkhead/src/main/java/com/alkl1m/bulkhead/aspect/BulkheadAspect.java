@@ -1,15 +1,25 @@
 package com.alkl1m.bulkhead.aspect;
 
 import com.alkl1m.bulkhead.annotation.Bulkhead;
+import com.alkl1m.bulkhead.configuration.BulkheadProperties;
 import com.alkl1m.bulkhead.exception.BulkheadException;
+import com.alkl1m.bulkhead.exception.OverloadException;
+import com.alkl1m.bulkhead.jfr.BulkheadRejectedEvent;
+import com.alkl1m.bulkhead.jfr.BulkheadWaitEvent;
+import com.alkl1m.bulkhead.metrics.BulkheadMetrics;
+import com.alkl1m.bulkhead.overload.AdmissionFilter;
+import com.alkl1m.bulkhead.state.BulkheadState;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.stereotype.Component;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
@@ -18,16 +28,49 @@ import java.util.concurrent.TimeUnit;
  * Аспект bulkhead. Изолирует ресурсы и предотвращает каскадные сбои.
  * Является Thread/Concurrency bulkhead. Ограничивает кол-во одновременных
  * запросов к методу/сервису.
+ * <p>
+ * Перед захватом разрешения вызов проходит через {@link AdmissionFilter}: при перегрузке JVM
+ * вызовы с низким {@link Bulkhead#priority()} сбрасываются сразу, не занимая очередь семафора.
  *
  * @author AlKl1M
  */
 @Aspect
-@Component
+@Order(BulkheadAspect.ORDER)
 public class BulkheadAspect {
 
-    private final ConcurrentHashMap<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+    /**
+     * Порядок аспекта: внутри Circuit Breaker и снаружи балансировщика, поэтому разрешение
+     * занимает только вызов, пропущенный цепью.
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 200;
+
+    private final ConcurrentHashMap<String, BulkheadState> bulkheads = new ConcurrentHashMap<>();
+    private volatile BulkheadProperties properties;
+    private volatile BulkheadMetrics metrics;
+    private volatile AdmissionFilter admissionFilter;
+
+    public BulkheadAspect() {
+        this(new BulkheadProperties(), BulkheadMetrics.NOOP, AdmissionFilter.ALWAYS);
+    }
+
+    public BulkheadAspect(BulkheadProperties properties, BulkheadMetrics metrics, AdmissionFilter admissionFilter) {
+        configure(properties, metrics, admissionFilter);
+    }
+
+    /**
+     * Вызывается из {@code BulkheadConfiguration} для вплетенного экземпляра в режиме {@code aspectj}.
+     *
+     * @param properties именованные политики
+     * @param metrics метрики
+     * @param admissionFilter допуск вызовов при перегрузке
+     */
+    public void configure(BulkheadProperties properties, BulkheadMetrics metrics, AdmissionFilter admissionFilter) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.admissionFilter = admissionFilter;
+    }
 
-    @Pointcut("@annotation(bulkhead)")
+    @Pointcut("execution(* *(..)) && @annotation(bulkhead)")
     public void bulkheadPointcut(Bulkhead bulkhead) {
     }
 
@@ -38,9 +81,12 @@ public class BulkheadAspect {
      * <ol>
      *   <li>Определение сигнатуры вызываемого метода</li>
      *   <li>Генерация уникального ключа для метода</li>
-     *   <li>Получение или создание семафора с параметрами из аннотации</li>
+     *   <li>Определение параметров: именованная политика из {@link BulkheadProperties} или аннотация</li>
+     *   <li>Получение или создание семафора, изменение его лимита при изменении или удалении политики</li>
+     *   <li>Проверка приоритета вызова в {@link AdmissionFilter}, сброс при перегрузке</li>
      *   <li>Попытка захвата семафора с таймаутом</li>
      *   <li>Обработка успешного/неуспешного захвата</li>
+     *   <li>Передача времени ожидания и результата захвата в {@link BulkheadMetrics} и JFR</li>
      *   <li>Освобождение ресурса в блоке finally</li>
      * </ol>
      *
@@ -49,21 +95,53 @@ public class BulkheadAspect {
      * @return результат выполнения оригинального метода
      * @throws Throwable         исключения из оригинального метода
      * @throws BulkheadException если превышен лимит ожидания или concurrent-запросов
+     * @throws OverloadException если вызов сброшен из-за перегрузки JVM
      */
     @Around(value = "bulkheadPointcut(bulkhead)", argNames = "joinPoint, bulkhead")
     public Object manageConcurrency(ProceedingJoinPoint joinPoint, Bulkhead bulkhead) throws Throwable {
         Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
         String key = method.getDeclaringClass().getName() + "#" + method.getName();
 
-        Semaphore semaphore = semaphores.computeIfAbsent(key,
-                k -> new Semaphore(bulkhead.maxConcurrentCalls()));
+        BulkheadProperties.Policy policy = properties.policy(bulkhead.name());
+        int maxConcurrentCalls = policy != null && policy.getMaxConcurrentCalls() != null
+                ? policy.getMaxConcurrentCalls()
+                : bulkhead.maxConcurrentCalls();
+        long timeoutMs = policy != null && policy.getTimeoutMs() != null
+                ? policy.getTimeoutMs()
+                : bulkhead.timeoutMs();
+
+        BulkheadState state = bulkheads.get(key);
+        if (state == null) {
+            state = bulkheads.computeIfAbsent(key, k -> {
+                BulkheadState created = new BulkheadState(k, maxConcurrentCalls);
+                metrics.onBulkheadCreated(method, created);
+                return created;
+            });
+        }
+        if (state.getMaxConcurrentCalls() != maxConcurrentCalls) {
+            state.resize(maxConcurrentCalls);
+        }
+        Semaphore semaphore = state.getSemaphore();
+
+        if (!admissionFilter.admit(bulkhead.priority())) {
+            metrics.onShed(method);
+            throw new OverloadException("Service is overloaded - please try again later");
+        }
 
         boolean acquired = false;
         try {
-            acquired = semaphore.tryAcquire(bulkhead.timeoutMs(), TimeUnit.MILLISECONDS);
+            BulkheadWaitEvent waitEvent = new BulkheadWaitEvent();
+            waitEvent.begin();
+            long waitStart = System.nanoTime();
+            acquired = semaphore.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+            long waitNanos = System.nanoTime() - waitStart;
             if (!acquired) {
+                BulkheadRejectedEvent.emit(method, state.getMaxConcurrentCalls(), waitNanos);
+                metrics.onRejected(method, waitNanos);
                 throw new BulkheadException("Too many concurrent requests - please try again later");
             }
+            waitEvent.commit(method, state.getMaxConcurrentCalls());
+            metrics.onPermitted(method, waitNanos);
             return joinPoint.proceed();
         } finally {
             if (acquired) {
@@ -72,4 +150,13 @@ public class BulkheadAspect {
         }
     }
 
+    /**
+     * Текущие состояния bulkhead по ключу метода, только для чтения.
+     *
+     * @return отображение ключа метода на состояние
+     */
+    public Map<String, BulkheadState> getBulkheads() {
+        return Collections.unmodifiableMap(bulkheads);
+    }
+
 }
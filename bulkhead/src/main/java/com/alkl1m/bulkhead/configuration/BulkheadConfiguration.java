@@ -1,15 +1,132 @@
 package com.alkl1m.bulkhead.configuration;
 
+import com.alkl1m.bulkhead.aot.BulkheadRuntimeHints;
 import com.alkl1m.bulkhead.aspect.BulkheadAspect;
+import com.alkl1m.bulkhead.endpoint.BulkheadsEndpoint;
+import com.alkl1m.bulkhead.metrics.BulkheadMetrics;
+import com.alkl1m.bulkhead.metrics.MicrometerBulkheadMetrics;
+import com.alkl1m.bulkhead.overload.AdmissionFilter;
+import com.alkl1m.bulkhead.overload.OverloadAdmissionFilter;
+import com.alkl1m.bulkhead.overload.OverloadDetector;
+import com.alkl1m.time.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.Aspects;
+import org.aspectj.lang.NoAspectBoundException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
+/**
+ * Класс автоконфигурации.
+ * <p>
+ * В режиме прокси ({@code resilience.aop.mode=proxy}, по умолчанию) аспект создается как Spring-бин.
+ * В режиме {@code aspectj} Spring-прокси не создаются: аспект вплетается ajc или агентом load-time weaving
+ * по {@code META-INF/aop.xml}, и его единственный экземпляр создается самим AspectJ через конструктор
+ * без аргументов. Автоконфигурация берет его из {@code Aspects.aspectOf}, передает политики,
+ * метрики и фильтр допуска через {@code configure} и регистрирует как бин.
+ * Если аспект не вплетен, контекст не запускается.
+ * <p>
+ * Метрики публикуются, если в контексте есть {@link MeterRegistry} и не задано
+ * {@code resilience.metrics.enabled=false}. Иначе аспект использует {@link BulkheadMetrics#NOOP}.
+ * При наличии Actuator регистрируется эндпоинт {@code bulkheads}.
+ * <p>
+ * Именованные политики ({@code resilience.bulkhead.<name>.*}) задаются в {@link BulkheadProperties}.
+ * <p>
+ * При {@code resilience.overload.enabled=true} запускается {@link OverloadDetector}, и аспект
+ * сбрасывает вызовы с низким приоритетом при перегрузке JVM (см. {@link OverloadProperties}).
+ * Время удержания уровня детектор отсчитывает по бину {@link Ticker}, если он объявлен, иначе
+ * по {@link Ticker#SYSTEM}.
+ *
+ * @author AlKl1M
+ */
 @Configuration
+@EnableConfigurationProperties({BulkheadProperties.class, OverloadProperties.class})
+@ImportRuntimeHints(BulkheadRuntimeHints.class)
 public class BulkheadConfiguration {
 
     @Bean
-    public BulkheadAspect bulkheadAspect() {
-        return new BulkheadAspect();
+    @ConditionalOnProperty(prefix = "resilience.aop", name = "mode", havingValue = "proxy", matchIfMissing = true)
+    public BulkheadAspect bulkheadAspect(BulkheadProperties properties,
+                                         ObjectProvider<BulkheadMetrics> metrics,
+                                         ObjectProvider<AdmissionFilter> admissionFilter) {
+        return new BulkheadAspect(properties,
+                metrics.getIfAvailable(() -> BulkheadMetrics.NOOP),
+                admissionFilter.getIfAvailable(() -> AdmissionFilter.ALWAYS));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "resilience.aop", name = "mode", havingValue = "aspectj")
+    static class BulkheadAspectJConfiguration {
+
+        @Bean
+        public BulkheadAspect bulkheadAspect(BulkheadProperties properties,
+                                             ObjectProvider<BulkheadMetrics> metrics,
+                                             ObjectProvider<AdmissionFilter> admissionFilter) {
+            BulkheadAspect aspect = wovenAspect();
+            aspect.configure(properties,
+                    metrics.getIfAvailable(() -> BulkheadMetrics.NOOP),
+                    admissionFilter.getIfAvailable(() -> AdmissionFilter.ALWAYS));
+            return aspect;
+        }
+
+        private static BulkheadAspect wovenAspect() {
+            try {
+                return Aspects.aspectOf(BulkheadAspect.class);
+            } catch (NoAspectBoundException e) {
+                throw new IllegalStateException("resilience.aop.mode=aspectj, but BulkheadAspect is not woven: "
+                        + "compile with ajc or start the JVM with -javaagent:aspectjweaver.jar", e);
+            }
+        }
+
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "resilience.overload", name = "enabled", havingValue = "true")
+    static class OverloadConfiguration {
+
+        @Bean(destroyMethod = "close")
+        public OverloadDetector overloadDetector(OverloadProperties properties, ObjectProvider<Ticker> ticker) {
+            OverloadDetector detector = new OverloadDetector(properties, ticker.getIfAvailable(() -> Ticker.SYSTEM));
+            detector.start();
+            return detector;
+        }
+
+        @Bean
+        public AdmissionFilter overloadAdmissionFilter(OverloadDetector overloadDetector) {
+            return new OverloadAdmissionFilter(overloadDetector);
+        }
+
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "resilience.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class BulkheadMetricsConfiguration {
+
+        @Bean
+        public BulkheadMetrics bulkheadMetrics(ObjectProvider<MeterRegistry> registry) {
+            MeterRegistry meterRegistry = registry.getIfAvailable();
+            return meterRegistry != null ? new MicrometerBulkheadMetrics(meterRegistry) : BulkheadMetrics.NOOP;
+        }
+
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class BulkheadEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnAvailableEndpoint
+        public BulkheadsEndpoint bulkheadsEndpoint(BulkheadAspect bulkheadAspect) {
+            return new BulkheadsEndpoint(bulkheadAspect);
+        }
+
     }
 
 }
@@ -0,0 +1,79 @@
+package com.alkl1m.bulkhead.configuration;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Именованные политики bulkhead, переопределяющие значения из аннотации {@link com.alkl1m.bulkhead.annotation.Bulkhead}.
+ * <pre>
+ * resilience.bulkhead.payments.max-concurrent-calls=20
+ * resilience.bulkhead.payments.timeout-ms=200
+ * </pre>
+ * Политики неизменяемы, при привязке свойств заменяется все отображение целиком, поэтому аспект,
+ * читающий политику на каждом вызове, всегда видит согласованный набор значений.
+ * <p>
+ * Сама библиотека свойства не перепривязывает. Изменение на лету требует внешнего механизма,
+ * например {@code ConfigurationPropertiesRebinder} из Spring Cloud Context
+ * ({@code /actuator/refresh}), тогда новый лимит применяется к работающему bulkhead без потери
+ * его состояния, а после удаления политики восстанавливаются значения аннотации. Если из
+ * конфигурации удален весь раздел {@code resilience.bulkhead}, привязка его не затрагивает
+ * и прежние политики остаются в силе.
+ *
+ * @author AlKl1M
+ */
+@ConfigurationProperties("resilience")
+public class BulkheadProperties {
+
+    private volatile Map<String, Policy> bulkhead = Map.of();
+
+    /**
+     * Возвращает политику по имени.
+     *
+     * @param name имя из аннотации
+     * @return политика или null, если для имени ничего не задано
+     */
+    public Policy policy(String name) {
+        return name.isEmpty() ? null : bulkhead.get(name);
+    }
+
+    /**
+     * Заменяет набор политик целиком.
+     *
+     * @param bulkhead политики по имени
+     */
+    public void setBulkhead(Map<String, Policy> bulkhead) {
+        this.bulkhead = Map.copyOf(bulkhead);
+    }
+
+    @Getter
+    public static class Policy {
+
+        /**
+         * Максимальное количество одновременных вызовов.
+         */
+        private final Integer maxConcurrentCalls;
+
+        /**
+         * Время ожидания разрешения в миллисекундах.
+         */
+        private final Long timeoutMs;
+
+        /**
+         * @throws IllegalArgumentException если лимит не положителен или таймаут отрицателен
+         */
+        public Policy(Integer maxConcurrentCalls, Long timeoutMs) {
+            if (maxConcurrentCalls != null && maxConcurrentCalls <= 0) {
+                throw new IllegalArgumentException("max-concurrent-calls must be positive: " + maxConcurrentCalls);
+            }
+            if (timeoutMs != null && timeoutMs < 0) {
+                throw new IllegalArgumentException("timeout-ms must not be negative: " + timeoutMs);
+            }
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            this.timeoutMs = timeoutMs;
+        }
+
+    }
+
+}
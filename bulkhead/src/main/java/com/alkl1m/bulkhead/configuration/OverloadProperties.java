@@ -0,0 +1,61 @@
+package com.alkl1m.bulkhead.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Пороги детектора перегрузки JVM ({@code resilience.overload.*}).
+ *
+ * @author AlKl1M
+ */
+@Getter
+@Setter
+@ConfigurationProperties("resilience.overload")
+public class OverloadProperties {
+
+    /**
+     * Включает детектор и сброс нагрузки перед bulkhead.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Период опроса сигналов.
+     */
+    private Duration sampleInterval = Duration.ofMillis(100);
+
+    /**
+     * Самая длинная пауза GC за период, при превышении которой JVM считается перегруженной.
+     */
+    private Duration gcPauseThreshold = Duration.ofMillis(200);
+
+    /**
+     * Доля занятой кучи (от 0 до 1).
+     */
+    private double heapUsageThreshold = 0.9;
+
+    /**
+     * Загрузка CPU процессом (от 0 до 1).
+     */
+    private double cpuLoadThreshold = 0.9;
+
+    /**
+     * Опоздание задачи опроса относительно расписания - признак очереди на планировщике и CPU.
+     */
+    private Duration schedulingLagThreshold = Duration.ofMillis(100);
+
+    /**
+     * Доля порога (от 0 до 1), ниже которой должен опуститься нарушенный сигнал, чтобы порог
+     * снова считался соблюденным. Сигнал, колеблющийся около порога, не переключает уровень.
+     */
+    private double recoveryRatio = 0.8;
+
+    /**
+     * Минимальное время, в течение которого уровень перегрузки должен держаться ниже текущего,
+     * прежде чем детектор его понизит. Повышение уровня применяется сразу.
+     */
+    private Duration minHoldTime = Duration.ofSeconds(1);
+
+}
@@ -0,0 +1,48 @@
+package com.alkl1m.bulkhead.endpoint;
+
+import com.alkl1m.bulkhead.aspect.BulkheadAspect;
+import com.alkl1m.bulkhead.state.BulkheadState;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Actuator-эндпоинт {@code /actuator/bulkheads}: текущая занятость всех bulkhead.
+ *
+ * @author AlKl1M
+ */
+@Endpoint(id = "bulkheads")
+public class BulkheadsEndpoint {
+
+    private final BulkheadAspect bulkheadAspect;
+
+    public BulkheadsEndpoint(BulkheadAspect bulkheadAspect) {
+        this.bulkheadAspect = bulkheadAspect;
+    }
+
+    @ReadOperation
+    public Map<String, BulkheadDescriptor> bulkheads() {
+        Map<String, BulkheadDescriptor> descriptors = new TreeMap<>();
+        bulkheadAspect.getBulkheads().forEach((name, state) -> descriptors.put(name, BulkheadDescriptor.of(state)));
+        return descriptors;
+    }
+
+    /**
+     * Снимок состояния одного bulkhead.
+     *
+     * @param maxConcurrentCalls лимит одновременных вызовов
+     * @param activeCalls        занятые разрешения
+     * @param waitingCalls       потоки в очереди
+     */
+    public record BulkheadDescriptor(int maxConcurrentCalls, int activeCalls, int waitingCalls) {
+
+        static BulkheadDescriptor of(BulkheadState state) {
+            return new BulkheadDescriptor(state.getMaxConcurrentCalls(), state.getActiveCalls(),
+                    state.getWaitingCalls());
+        }
+
+    }
+
+}
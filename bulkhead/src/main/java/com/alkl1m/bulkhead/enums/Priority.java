@@ -0,0 +1,13 @@
+package com.alkl1m.bulkhead.enums;
+
+/**
+ * Приоритет вызова при сбросе нагрузки. При перегрузке JVM первыми отклоняются вызовы
+ * с низким приоритетом, {@link #CRITICAL} не отклоняются никогда.
+ *
+ * @author AlKl1M
+ */
+public enum Priority {
+
+    LOW, NORMAL, HIGH, CRITICAL
+
+}
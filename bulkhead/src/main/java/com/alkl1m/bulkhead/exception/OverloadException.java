@@ -0,0 +1,9 @@
+package com.alkl1m.bulkhead.exception;
+
+public class OverloadException extends BulkheadException {
+
+    public OverloadException(String message) {
+        super(message);
+    }
+
+}
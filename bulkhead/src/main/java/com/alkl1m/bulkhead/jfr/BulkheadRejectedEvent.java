@@ -0,0 +1,53 @@
+package com.alkl1m.bulkhead.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.lang.reflect.Method;
+
+/**
+ * JFR-событие отклонения вызова bulkhead. Создается только на пути отказа, поэтому время,
+ * потраченное на ожидание до отказа, передается в поле {@code waitTime}.
+ *
+ * @author AlKl1M
+ */
+@Name("com.alkl1m.bulkhead.Rejected")
+@Label("Bulkhead Rejected")
+@Category({"Resilience", "Bulkhead"})
+@Description("Call rejected because no bulkhead permit became available in time")
+@StackTrace(false)
+public class BulkheadRejectedEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Max Concurrent Calls")
+    int maxConcurrentCalls;
+
+    @Label("Wait Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long waitTime;
+
+    /**
+     * Записывает событие, если оно включено.
+     *
+     * @param method             метод
+     * @param maxConcurrentCalls лимит одновременных вызовов
+     * @param waitNanos          время ожидания разрешения до отказа
+     */
+    public static void emit(Method method, int maxConcurrentCalls, long waitNanos) {
+        BulkheadRejectedEvent event = new BulkheadRejectedEvent();
+        if (event.shouldCommit()) {
+            event.method = method.getDeclaringClass().getName() + "#" + method.getName();
+            event.maxConcurrentCalls = maxConcurrentCalls;
+            event.waitTime = waitNanos;
+            event.commit();
+        }
+    }
+
+}
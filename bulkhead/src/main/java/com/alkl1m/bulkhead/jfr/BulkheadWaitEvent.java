@@ -0,0 +1,49 @@
+package com.alkl1m.bulkhead.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.lang.reflect.Method;
+
+/**
+ * JFR-событие ожидания разрешения bulkhead, завершившегося захватом. Длительность события -
+ * время ожидания. По умолчанию записываются только ожидания дольше 1 мс, порог меняется
+ * через настройки JFR ({@code com.alkl1m.bulkhead.Wait#threshold}).
+ *
+ * @author AlKl1M
+ */
+@Name("com.alkl1m.bulkhead.Wait")
+@Label("Bulkhead Wait")
+@Category({"Resilience", "Bulkhead"})
+@Description("Time a call waited for a bulkhead permit")
+@Threshold("1 ms")
+@StackTrace(false)
+public class BulkheadWaitEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Max Concurrent Calls")
+    int maxConcurrentCalls;
+
+    /**
+     * Завершает событие, если оно должно быть записано.
+     *
+     * @param method             метод
+     * @param maxConcurrentCalls лимит одновременных вызовов
+     */
+    public void commit(Method method, int maxConcurrentCalls) {
+        end();
+        if (shouldCommit()) {
+            this.method = method.getDeclaringClass().getName() + "#" + method.getName();
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.alkl1m.bulkhead.metrics;
+
+import com.alkl1m.bulkhead.state.BulkheadState;
+
+import java.lang.reflect.Method;
+
+/**
+ * Точка сбора метрик {@link com.alkl1m.bulkhead.aspect.BulkheadAspect}.
+ * <p>
+ * Реализация по умолчанию {@link #NOOP} ничего не делает: вызовы пустых методов
+ * встраиваются JIT-компилятором и не стоят ничего, когда метрики выключены.
+ *
+ * @author AlKl1M
+ */
+public interface BulkheadMetrics {
+
+    BulkheadMetrics NOOP = new BulkheadMetrics() {
+    };
+
+    /**
+     * Вызывается один раз при создании состояния bulkhead для метода.
+     *
+     * @param method метод
+     * @param state  созданное состояние
+     */
+    default void onBulkheadCreated(Method method, BulkheadState state) {
+    }
+
+    /**
+     * Вызов получил разрешение.
+     *
+     * @param method    метод
+     * @param waitNanos время ожидания разрешения
+     */
+    default void onPermitted(Method method, long waitNanos) {
+    }
+
+    /**
+     * Вызов отклонен по таймауту ожидания.
+     *
+     * @param method    метод
+     * @param waitNanos время ожидания разрешения
+     */
+    default void onRejected(Method method, long waitNanos) {
+    }
+
+    /**
+     * Вызов сброшен фильтром допуска из-за перегрузки JVM.
+     *
+     * @param method метод
+     */
+    default void onShed(Method method) {
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.alkl1m.bulkhead.metrics;
+
+import com.alkl1m.bulkhead.state.BulkheadState;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Метрики bulkhead, публикуемые через Micrometer.
+ * <p>
+ * На горячем пути только инкременты {@link LongAdder}, запись в {@link Timer} и чтение
+ * из {@link ConcurrentHashMap} по ключу {@link Method}, без аллокаций:
+ * <ul>
+ *   <li>{@code resilience.bulkhead.calls{method, signature, result}} - разрешенные, отклоненные и сброшенные при перегрузке вызовы</li>
+ *   <li>{@code resilience.bulkhead.wait{method, signature}} - время ожидания разрешения</li>
+ *   <li>{@code resilience.bulkhead.active.calls{method}} - занятые разрешения</li>
+ *   <li>{@code resilience.bulkhead.waiting.calls{method}} - потоки в очереди семафора</li>
+ *   <li>{@code resilience.bulkhead.max.calls{method}} - лимит одновременных вызовов</li>
+ * </ul>
+ * Перегрузки метода делят один семафор, поэтому датчики семафора помечены только тегом {@code method},
+ * а счетчики и таймер различают перегрузки по тегу {@code signature}.
+ *
+ * @author AlKl1M
+ */
+public class MicrometerBulkheadMetrics implements BulkheadMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public MicrometerBulkheadMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onBulkheadCreated(Method method, BulkheadState state) {
+        String name = state.getName();
+        Gauge.builder("resilience.bulkhead.active.calls", state, BulkheadState::getActiveCalls)
+                .tag("method", name)
+                .description("Calls currently holding a permit")
+                .register(registry);
+        Gauge.builder("resilience.bulkhead.waiting.calls", state, BulkheadState::getWaitingCalls)
+                .tag("method", name)
+                .description("Calls waiting for a permit")
+                .register(registry);
+        Gauge.builder("resilience.bulkhead.max.calls", state, BulkheadState::getMaxConcurrentCalls)
+                .tag("method", name)
+                .description("Maximum concurrent calls")
+                .register(registry);
+    }
+
+    @Override
+    public void onPermitted(Method method, long waitNanos) {
+        MethodMeters methodMeters = meters(method);
+        methodMeters.permitted.increment();
+        methodMeters.waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onRejected(Method method, long waitNanos) {
+        MethodMeters methodMeters = meters(method);
+        methodMeters.rejected.increment();
+        methodMeters.waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onShed(Method method) {
+        meters(method).shed.increment();
+    }
+
+    private MethodMeters meters(Method method) {
+        MethodMeters methodMeters = meters.get(method);
+        if (methodMeters == null) {
+            methodMeters = meters.computeIfAbsent(method, this::register);
+        }
+        return methodMeters;
+    }
+
+    private MethodMeters register(Method method) {
+        Tags tags = tags(method);
+        LongAdder permitted = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        LongAdder shed = new LongAdder();
+        FunctionCounter.builder("resilience.bulkhead.calls", permitted, LongAdder::sum)
+                .tags(tags)
+                .tag("result", "permitted")
+                .description("Calls that acquired a permit")
+                .register(registry);
+        FunctionCounter.builder("resilience.bulkhead.calls", rejected, LongAdder::sum)
+                .tags(tags)
+                .tag("result", "rejected")
+                .description("Calls rejected after waiting for a permit")
+                .register(registry);
+        FunctionCounter.builder("resilience.bulkhead.calls", shed, LongAdder::sum)
+                .tags(tags)
+                .tag("result", "shed")
+                .description("Calls shed by the overload admission filter")
+                .register(registry);
+        Timer waitTimer = Timer.builder("resilience.bulkhead.wait")
+                .tags(tags)
+                .description("Time spent waiting for a permit")
+                .register(registry);
+        return new MethodMeters(permitted, rejected, shed, waitTimer);
+    }
+
+    private static Tags tags(Method method) {
+        return Tags.of("method", method.getDeclaringClass().getName() + "#" + method.getName(),
+                "signature", method.toGenericString());
+    }
+
+    private record MethodMeters(LongAdder permitted, LongAdder rejected, LongAdder shed, Timer waitTimer) {
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.alkl1m.bulkhead.overload;
+
+import com.alkl1m.bulkhead.enums.Priority;
+
+/**
+ * Фильтр допуска, проверяемый {@link com.alkl1m.bulkhead.aspect.BulkheadAspect} до захвата разрешения.
+ *
+ * @author AlKl1M
+ */
+@FunctionalInterface
+public interface AdmissionFilter {
+
+    AdmissionFilter ALWAYS = priority -> true;
+
+    /**
+     * @param priority приоритет вызова
+     * @return true если вызов допускается к bulkhead
+     */
+    boolean admit(Priority priority);
+
+}
@@ -0,0 +1,27 @@
+package com.alkl1m.bulkhead.overload;
+
+import com.alkl1m.bulkhead.enums.Priority;
+
+/**
+ * Фильтр допуска на основе уровня перегрузки от {@link OverloadDetector}.
+ * <p>
+ * Уровень - количество нарушенных порогов. На уровне 1 отклоняются вызовы {@link Priority#LOW},
+ * на уровне 2 - еще и {@link Priority#NORMAL}, начиная с уровня 3 - все, кроме {@link Priority#CRITICAL}.
+ *
+ * @author AlKl1M
+ */
+public class OverloadAdmissionFilter implements AdmissionFilter {
+
+    private final OverloadDetector detector;
+
+    public OverloadAdmissionFilter(OverloadDetector detector) {
+        this.detector = detector;
+    }
+
+    @Override
+    public boolean admit(Priority priority) {
+        int level = detector.getOverloadLevel();
+        return priority == Priority.CRITICAL || priority.ordinal() >= level;
+    }
+
+}
@@ -0,0 +1,242 @@
+package com.alkl1m.bulkhead.overload;
+
+import com.alkl1m.bulkhead.configuration.OverloadProperties;
+import com.alkl1m.time.Ticker;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Детектор перегрузки JVM.
+ * <p>
+ * Периодически опрашивает сигналы и считает уровень перегрузки - количество нарушенных порогов
+ * из {@link OverloadProperties}:
+ * <ul>
+ *   <li>самая длинная пауза GC за период - из потока JFR-событий {@code jdk.GarbageCollection};
+ *   если JFR недоступен, используется прирост времени сборки из {@link GarbageCollectorMXBean}</li>
+ *   <li>доля кучи, занятой после последней сборки, из {@link MemoryPoolMXBean#getCollectionUsage()}</li>
+ *   <li>загрузка CPU процессом из {@code com.sun.management.OperatingSystemMXBean}</li>
+ *   <li>опоздание задачи опроса относительно расписания - косвенный признак нехватки CPU
+ *   и очередей на потоках-исполнителях</li>
+ * </ul>
+ * Чтобы уровень не дребезжал, когда сигналы колеблются около порогов:
+ * <ul>
+ *   <li>нарушенный порог считается соблюденным, только когда сигнал опустится ниже
+ *   {@code порог * recoveryRatio}</li>
+ *   <li>уровень повышается сразу, а понижается, только если все опросы за {@code minHoldTime}
+ *   дали уровень ниже текущего; новым уровнем становится наибольший из них</li>
+ * </ul>
+ * Опрос выполняется в отдельном daemon-потоке; на пути вызова читается только volatile-поле уровня.
+ *
+ * @author AlKl1M
+ */
+public class OverloadDetector implements AutoCloseable {
+
+    private static final int GC_PAUSE = 0;
+    private static final int HEAP_USAGE = 1;
+    private static final int CPU_LOAD = 2;
+    private static final int SCHEDULING_LAG = 3;
+
+    private final OverloadProperties properties;
+    private final Ticker ticker;
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+    private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+    private final AtomicLong longestGcPauseNanos = new AtomicLong();
+
+    private ScheduledExecutorService scheduler;
+    private RecordingStream gcEvents;
+    private long intervalNanos;
+    private long nextSampleNanos;
+    private long lastCollectionTimeMillis;
+    private final boolean[] breached = new boolean[4];
+    private long recoveryStartNanos;
+    private int recoveryLevel = -1;
+
+    private volatile int overloadLevel;
+    private volatile OverloadSignals lastSignals = new OverloadSignals(0, 0, -1, 0);
+
+    public OverloadDetector(OverloadProperties properties) {
+        this(properties, Ticker.SYSTEM);
+    }
+
+    /**
+     * @param properties пороги
+     * @param ticker     источник времени для {@link OverloadProperties#getMinHoldTime()}
+     */
+    public OverloadDetector(OverloadProperties properties, Ticker ticker) {
+        this.properties = properties;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Запускает опрос сигналов.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        gcEvents = startGcEventStream();
+        lastCollectionTimeMillis = totalCollectionTimeMillis();
+        intervalNanos = properties.getSampleInterval().toNanos();
+        nextSampleNanos = System.nanoTime() + intervalNanos;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "overload-detector");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sample, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        if (gcEvents != null) {
+            gcEvents.close();
+            gcEvents = null;
+        }
+    }
+
+    /**
+     * @return текущий уровень перегрузки - количество нарушенных порогов с учетом гистерезиса
+     */
+    public int getOverloadLevel() {
+        return overloadLevel;
+    }
+
+    public OverloadSignals getLastSignals() {
+        return lastSignals;
+    }
+
+    /**
+     * Принимает новый снимок сигналов и пересчитывает уровень перегрузки.
+     *
+     * @param signals снимок сигналов
+     */
+    public synchronized void update(OverloadSignals signals) {
+        lastSignals = signals;
+        int level = evaluate(signals);
+        if (level >= overloadLevel) {
+            overloadLevel = level;
+            recoveryLevel = -1;
+            return;
+        }
+        long now = ticker.nanoTime();
+        if (recoveryLevel < 0) {
+            recoveryStartNanos = now;
+        }
+        recoveryLevel = Math.max(recoveryLevel, level);
+        if (now - recoveryStartNanos >= properties.getMinHoldTime().toNanos()) {
+            overloadLevel = recoveryLevel;
+            recoveryLevel = -1;
+        }
+    }
+
+    /**
+     * Считает количество нарушенных порогов. Вызывается под монитором детектора.
+     *
+     * @param signals снимок сигналов
+     * @return уровень перегрузки от 0 до 4
+     */
+    private int evaluate(OverloadSignals signals) {
+        int level = 0;
+        if (breached(GC_PAUSE, signals.gcPauseMillis(), properties.getGcPauseThreshold().toMillis())) {
+            level++;
+        }
+        if (breached(HEAP_USAGE, signals.heapUsage(), properties.getHeapUsageThreshold())) {
+            level++;
+        }
+        // недоступная загрузка CPU (отрицательное значение) порог не нарушает
+        if (breached(CPU_LOAD, signals.cpuLoad(), properties.getCpuLoadThreshold())) {
+            level++;
+        }
+        if (breached(SCHEDULING_LAG, signals.schedulingLagMillis(),
+                properties.getSchedulingLagThreshold().toMillis())) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Проверяет порог с гистерезисом: нарушенный порог остается нарушенным, пока сигнал
+     * не опустится ниже {@code threshold * recoveryRatio}.
+     */
+    private boolean breached(int signal, double value, double threshold) {
+        double limit = breached[signal] ? threshold * properties.getRecoveryRatio() : threshold;
+        breached[signal] = value >= limit;
+        return breached[signal];
+    }
+
+    private void sample() {
+        long now = System.nanoTime();
+        long lagNanos = Math.max(0, now - nextSampleNanos);
+        nextSampleNanos += intervalNanos;
+
+        long collectionTimeMillis = totalCollectionTimeMillis();
+        long gcPauseMillis = gcEvents != null
+                ? TimeUnit.NANOSECONDS.toMillis(longestGcPauseNanos.getAndSet(0))
+                : collectionTimeMillis - lastCollectionTimeMillis;
+        lastCollectionTimeMillis = collectionTimeMillis;
+
+        update(new OverloadSignals(gcPauseMillis, heapUsage(), processCpuLoad(),
+                TimeUnit.NANOSECONDS.toMillis(lagNanos)));
+    }
+
+    private RecordingStream startGcEventStream() {
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable("jdk.GarbageCollection");
+            stream.onEvent("jdk.GarbageCollection", event -> {
+                Duration pause = event.getDuration("longestPause");
+                longestGcPauseNanos.accumulateAndGet(pause.toNanos(), Math::max);
+            });
+            stream.startAsync();
+            return stream;
+        } catch (RuntimeException | Error e) {
+            return null;
+        }
+    }
+
+    private long totalCollectionTimeMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+
+    private double heapUsage() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            MemoryUsage afterCollection = pool.getCollectionUsage();
+            used += afterCollection != null ? afterCollection.getUsed() : pool.getUsage().getUsed();
+        }
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long max = heap.getMax() > 0 ? heap.getMax() : heap.getCommitted();
+        return max > 0 ? (double) used / max : 0;
+    }
+
+    private double processCpuLoad() {
+        if (operatingSystem instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getProcessCpuLoad();
+        }
+        return -1;
+    }
+
+}
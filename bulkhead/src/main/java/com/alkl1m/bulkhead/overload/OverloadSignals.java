@@ -0,0 +1,13 @@
+package com.alkl1m.bulkhead.overload;
+
+/**
+ * Снимок сигналов перегрузки JVM за один период опроса.
+ *
+ * @param gcPauseMillis       самая длинная пауза GC за период
+ * @param heapUsage           доля занятой кучи (от 0 до 1)
+ * @param cpuLoad             загрузка CPU процессом (от 0 до 1), отрицательное значение - недоступно
+ * @param schedulingLagMillis опоздание задачи опроса относительно расписания
+ * @author AlKl1M
+ */
+public record OverloadSignals(long gcPauseMillis, double heapUsage, double cpuLoad, long schedulingLagMillis) {
+}
@@ -0,0 +1,73 @@
+package com.alkl1m.bulkhead.state;
+
+import lombok.Getter;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Состояние bulkhead для конкретного метода: семафор и текущий лимит.
+ * <p>
+ * Лимит можно менять на лету через {@link #resize(int)}: недостающие разрешения добавляются,
+ * лишние изымаются по мере их освобождения, уже выполняющиеся вызовы не прерываются.
+ *
+ * @author AlKl1M
+ */
+@Getter
+public class BulkheadState {
+
+    private final String name;
+    private final ResizableSemaphore semaphore;
+    private volatile int maxConcurrentCalls;
+
+    public BulkheadState(String name, int maxConcurrentCalls) {
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.semaphore = new ResizableSemaphore(maxConcurrentCalls);
+    }
+
+    /**
+     * Меняет лимит одновременных вызовов.
+     *
+     * @param newMaxConcurrentCalls новый лимит
+     */
+    public synchronized void resize(int newMaxConcurrentCalls) {
+        int delta = newMaxConcurrentCalls - maxConcurrentCalls;
+        if (delta > 0) {
+            semaphore.release(delta);
+        } else if (delta < 0) {
+            semaphore.reducePermits(-delta);
+        }
+        maxConcurrentCalls = newMaxConcurrentCalls;
+    }
+
+    /**
+     * @return количество вызовов, выполняющихся в данный момент
+     */
+    public int getActiveCalls() {
+        return maxConcurrentCalls - semaphore.availablePermits();
+    }
+
+    /**
+     * @return примерное количество потоков, ожидающих разрешения
+     */
+    public int getWaitingCalls() {
+        return semaphore.getQueueLength();
+    }
+
+    /**
+     * Семафор с открытым {@link Semaphore#reducePermits(int)}.
+     */
+    public static class ResizableSemaphore extends Semaphore {
+
+        public ResizableSemaphore(int permits) {
+            super(permits);
+        }
+
+        @Override
+        public void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.alkl1m.bulkhead.aspect;
+
+import com.alkl1m.bulkhead.annotation.Bulkhead;
+import com.alkl1m.bulkhead.configuration.BulkheadConfiguration;
+import com.alkl1m.bulkhead.exception.BulkheadException;
+import org.aspectj.lang.Aspects;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Запускается отдельным прогоном surefire с агентом aspectjweaver (см. pom.xml).
+ */
+@SpringBootTest(classes = BulkheadAspectWovenTest.TestConfig.class, properties = {
+        "resilience.aop.mode=aspectj",
+        "resilience.bulkhead.single.max-concurrent-calls=1",
+        "resilience.bulkhead.single.timeout-ms=0"})
+class BulkheadAspectWovenTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Autowired
+    private BulkheadAspect bulkheadAspect;
+
+    @Test
+    void whenWoven_thenAdviceRunsWithoutSpringProxy() {
+        assertFalse(AopUtils.isAopProxy(testService));
+        assertSame(Aspects.aspectOf(BulkheadAspect.class), bulkheadAspect);
+
+        assertEquals("ok", testService.open());
+    }
+
+    @Test
+    void whenWoven_thenNamedPolicyOverridesAnnotation() {
+        assertThrows(BulkheadException.class, () -> testService.nested(true));
+    }
+
+    @Configuration
+    @Import(BulkheadConfiguration.class)
+    static class TestConfig {
+
+        @Bean
+        public TestService testService() {
+            return new TestService();
+        }
+
+    }
+
+    static class TestService {
+
+        @Bulkhead(maxConcurrentCalls = 10, timeoutMs = 0)
+        public String open() {
+            return "ok";
+        }
+
+        @Bulkhead(name = "single", maxConcurrentCalls = 10, timeoutMs = 0)
+        public String nested(boolean outer) {
+            return outer ? nested(false) : "ok";
+        }
+    }
+
+}
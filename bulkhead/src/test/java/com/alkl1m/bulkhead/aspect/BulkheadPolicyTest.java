@@ -0,0 +1,90 @@
+package com.alkl1m.bulkhead.aspect;
+
+import com.alkl1m.bulkhead.annotation.Bulkhead;
+import com.alkl1m.bulkhead.configuration.BulkheadProperties;
+import com.alkl1m.bulkhead.metrics.BulkheadMetrics;
+import com.alkl1m.bulkhead.overload.AdmissionFilter;
+import com.alkl1m.bulkhead.state.BulkheadState;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+@SpringBootTest(classes = BulkheadPolicyTest.TestConfig.class)
+@EnableAspectJAutoProxy
+class BulkheadPolicyTest {
+
+    @Autowired
+    private BulkheadAspect bulkheadAspect;
+
+    @Autowired
+    private BulkheadProperties properties;
+
+    @Autowired
+    private TestService testService;
+
+    @Test
+    void testNamedPolicy_resizesEachMethodAndRestoresAnnotationLimitsWhenRemoved() {
+        properties.setBulkhead(Map.of("shared", new BulkheadProperties.Policy(5, null)));
+        testService.first();
+        testService.second();
+
+        BulkheadState first = bulkhead("first");
+        BulkheadState second = bulkhead("second");
+        assertNotSame(first, second);
+        assertEquals(5, first.getMaxConcurrentCalls());
+        assertEquals(5, second.getMaxConcurrentCalls());
+
+        properties.setBulkhead(Map.of());
+        testService.first();
+        testService.second();
+
+        assertEquals(1, first.getMaxConcurrentCalls());
+        assertEquals(1, first.getSemaphore().availablePermits());
+        assertEquals(2, second.getMaxConcurrentCalls());
+        assertEquals(2, second.getSemaphore().availablePermits());
+    }
+
+    private BulkheadState bulkhead(String methodName) {
+        return bulkheadAspect.getBulkheads().get(TestService.class.getName() + "#" + methodName);
+    }
+
+    @Configuration
+    static class TestConfig {
+
+        @Bean
+        public BulkheadProperties bulkheadProperties() {
+            return new BulkheadProperties();
+        }
+
+        @Bean
+        public BulkheadAspect bulkheadAspect(BulkheadProperties bulkheadProperties) {
+            return new BulkheadAspect(bulkheadProperties, BulkheadMetrics.NOOP, AdmissionFilter.ALWAYS);
+        }
+
+        @Bean
+        public TestService testService() {
+            return new TestService();
+        }
+
+    }
+
+    static class TestService {
+
+        @Bulkhead(name = "shared", maxConcurrentCalls = 1, timeoutMs = 0)
+        public void first() {
+        }
+
+        @Bulkhead(name = "shared", maxConcurrentCalls = 2, timeoutMs = 0)
+        public void second() {
+        }
+    }
+
+}
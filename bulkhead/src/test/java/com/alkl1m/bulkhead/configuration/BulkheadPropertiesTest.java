@@ -0,0 +1,45 @@
+package com.alkl1m.bulkhead.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BulkheadPropertiesTest {
+
+    @Test
+    void testBind_whenValuesValid_bindsPolicy() {
+        BulkheadProperties properties = new BulkheadProperties();
+        bind(properties, Map.of(
+                "resilience.bulkhead.payments.max-concurrent-calls", "20",
+                "resilience.bulkhead.payments.timeout-ms", "0"));
+
+        assertEquals(20, properties.policy("payments").getMaxConcurrentCalls());
+        assertEquals(0L, properties.policy("payments").getTimeoutMs());
+    }
+
+    @Test
+    void testBind_whenValueOutOfRange_failsAndKeepsPreviousPolicies() {
+        BulkheadProperties properties = new BulkheadProperties();
+        bind(properties, Map.of("resilience.bulkhead.payments.max-concurrent-calls", "20"));
+
+        assertThrows(BindException.class, () -> bind(properties,
+                Map.of("resilience.bulkhead.payments.max-concurrent-calls", "0")));
+        assertThrows(BindException.class, () -> bind(properties,
+                Map.of("resilience.bulkhead.payments.timeout-ms", "-1")));
+
+        assertEquals(20, properties.policy("payments").getMaxConcurrentCalls());
+    }
+
+    private static void bind(BulkheadProperties properties, Map<String, String> source) {
+        new Binder(new MapConfigurationPropertySource(source))
+                .bind("resilience", Bindable.ofInstance(properties));
+    }
+
+}
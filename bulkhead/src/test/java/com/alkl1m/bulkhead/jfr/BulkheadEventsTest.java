@@ -0,0 +1,73 @@
+package com.alkl1m.bulkhead.jfr;
+
+import com.alkl1m.bulkhead.annotation.Bulkhead;
+import com.alkl1m.bulkhead.aspect.BulkheadAspect;
+import com.alkl1m.bulkhead.exception.BulkheadException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = {BulkheadAspect.class, BulkheadEventsTest.TestService.class})
+@EnableAspectJAutoProxy
+class BulkheadEventsTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Test
+    void testBulkheadEvents_recordsWaitForPermittedAndRejectedForRejectedCall(@TempDir Path tempDir) throws Exception {
+        Path dump = tempDir.resolve("bulkhead.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(BulkheadWaitEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(BulkheadRejectedEvent.class);
+            recording.start();
+            testService.permitted();
+            assertThrows(BulkheadException.class, testService::rejected);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        List<RecordedEvent> waits = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.alkl1m.bulkhead.Wait"))
+                .toList();
+        List<RecordedEvent> rejections = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.alkl1m.bulkhead.Rejected"))
+                .toList();
+
+        assertEquals(1, waits.size());
+        assertTrue(waits.get(0).getString("method").endsWith("#permitted"));
+        assertEquals(1, waits.get(0).getInt("maxConcurrentCalls"));
+        assertEquals(1, rejections.size());
+        assertTrue(rejections.get(0).getString("method").endsWith("#rejected"));
+        assertEquals(0, rejections.get(0).getInt("maxConcurrentCalls"));
+        assertTrue(rejections.get(0).getDuration("waitTime").compareTo(Duration.ofMillis(20)) >= 0);
+    }
+
+    @Service
+    static class TestService {
+
+        @Bulkhead(maxConcurrentCalls = 1, timeoutMs = 0)
+        public void permitted() {
+        }
+
+        @Bulkhead(maxConcurrentCalls = 0, timeoutMs = 20)
+        public void rejected() {
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.alkl1m.bulkhead.overload;
+
+import com.alkl1m.bulkhead.configuration.OverloadProperties;
+import com.alkl1m.bulkhead.enums.Priority;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OverloadAdmissionFilterTest {
+
+    private final OverloadDetector detector = new OverloadDetector(new OverloadProperties());
+    private final OverloadAdmissionFilter filter = new OverloadAdmissionFilter(detector);
+
+    @Test
+    void testAdmit_whenNoThresholdBreached_admitsAllPriorities() {
+        detector.update(new OverloadSignals(10, 0.5, 0.3, 0));
+
+        assertEquals(0, detector.getOverloadLevel());
+        for (Priority priority : Priority.values()) {
+            assertTrue(filter.admit(priority));
+        }
+    }
+
+    @Test
+    void testAdmit_whenThresholdsBreached_shedsLowPrioritiesFirst() {
+        detector.update(new OverloadSignals(500, 0.5, 0.3, 0));
+
+        assertEquals(1, detector.getOverloadLevel());
+        assertFalse(filter.admit(Priority.LOW));
+        assertTrue(filter.admit(Priority.NORMAL));
+
+        detector.update(new OverloadSignals(500, 0.95, 0.99, 250));
+
+        assertEquals(4, detector.getOverloadLevel());
+        assertFalse(filter.admit(Priority.LOW));
+        assertFalse(filter.admit(Priority.NORMAL));
+        assertFalse(filter.admit(Priority.HIGH));
+        assertTrue(filter.admit(Priority.CRITICAL));
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.alkl1m.bulkhead.overload;
+
+import com.alkl1m.bulkhead.configuration.OverloadProperties;
+import com.alkl1m.time.VirtualTime;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OverloadDetectorTest {
+
+    private final VirtualTime time = new VirtualTime();
+    private final OverloadDetector detector = new OverloadDetector(new OverloadProperties(), time);
+
+    @Test
+    void testUpdate_countsBreachedThresholds() {
+        detector.update(new OverloadSignals(10, 0.5, 0.3, 0));
+        assertEquals(0, detector.getOverloadLevel());
+
+        detector.update(new OverloadSignals(200, 0.9, 0.9, 100));
+        assertEquals(4, detector.getOverloadLevel());
+    }
+
+    @Test
+    void testUpdate_whenCpuLoadUnavailable_doesNotCountIt() {
+        detector.update(new OverloadSignals(0, 0, -1, 0));
+
+        assertEquals(0, detector.getOverloadLevel());
+    }
+
+    @Test
+    void testUpdate_whenSignalHoversAroundThreshold_keepsItBreachedUntilRecoveryRatio() {
+        detector.update(new OverloadSignals(0, 0.92, 0, 0));
+        assertEquals(1, detector.getOverloadLevel());
+
+        for (int i = 0; i < 20; i++) {
+            time.advance(Duration.ofMillis(100));
+            detector.update(new OverloadSignals(0, i % 2 == 0 ? 0.88 : 0.91, 0, 0));
+            assertEquals(1, detector.getOverloadLevel());
+        }
+
+        detector.update(new OverloadSignals(0, 0.7, 0, 0));
+        time.advance(Duration.ofSeconds(1));
+        detector.update(new OverloadSignals(0, 0.7, 0, 0));
+        assertEquals(0, detector.getOverloadLevel());
+
+        detector.update(new OverloadSignals(0, 0.88, 0, 0));
+        assertEquals(0, detector.getOverloadLevel());
+    }
+
+    @Test
+    void testUpdate_lowersLevelOnlyAfterMinHoldTime() {
+        detector.update(new OverloadSignals(500, 0.95, 0, 0));
+        assertEquals(2, detector.getOverloadLevel());
+
+        detector.update(new OverloadSignals(0, 0, 0, 0));
+        time.advance(Duration.ofMillis(500));
+        detector.update(new OverloadSignals(0, 0.95, 0, 0));
+        assertEquals(2, detector.getOverloadLevel());
+
+        time.advance(Duration.ofMillis(500));
+        detector.update(new OverloadSignals(0, 0, 0, 0));
+
+        assertEquals(1, detector.getOverloadLevel());
+
+        time.advance(Duration.ofMillis(500));
+        detector.update(new OverloadSignals(0, 0, 0, 0));
+        time.advance(Duration.ofMillis(500));
+        detector.update(new OverloadSignals(0, 0, 0, 0));
+        assertEquals(1, detector.getOverloadLevel());
+
+        time.advance(Duration.ofMillis(500));
+        detector.update(new OverloadSignals(0, 0, 0, 0));
+        assertEquals(0, detector.getOverloadLevel());
+    }
+
+    @Test
+    void testUpdate_raisesLevelImmediatelyAndRestartsRecovery() {
+        detector.update(new OverloadSignals(500, 0, 0, 0));
+        time.advance(Duration.ofMillis(900));
+        detector.update(new OverloadSignals(0, 0, 0, 0));
+
+        detector.update(new OverloadSignals(500, 0.95, 0, 0));
+        assertEquals(2, detector.getOverloadLevel());
+
+        time.advance(Duration.ofMillis(200));
+        detector.update(new OverloadSignals(0, 0, 0, 0));
+        assertEquals(2, detector.getOverloadLevel());
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.alkl1m.bulkhead.state;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkheadStateTest {
+
+    @Test
+    void testResize_whenIncreased_addsPermitsWithoutDroppingActiveCalls() {
+        BulkheadState state = new BulkheadState("test", 1);
+        assertTrue(state.getSemaphore().tryAcquire());
+
+        state.resize(3);
+
+        assertEquals(3, state.getMaxConcurrentCalls());
+        assertEquals(1, state.getActiveCalls());
+        assertTrue(state.getSemaphore().tryAcquire(2));
+        assertFalse(state.getSemaphore().tryAcquire());
+    }
+
+    @Test
+    void testResize_whenDecreasedBelowActiveCalls_rejectsUntilCallsDrain() {
+        BulkheadState state = new BulkheadState("test", 3);
+        assertTrue(state.getSemaphore().tryAcquire(3));
+
+        state.resize(1);
+
+        assertEquals(1, state.getMaxConcurrentCalls());
+        assertEquals(3, state.getActiveCalls());
+        state.getSemaphore().release(2);
+        assertFalse(state.getSemaphore().tryAcquire());
+        state.getSemaphore().release();
+        assertTrue(state.getSemaphore().tryAcquire());
+    }
+
+}
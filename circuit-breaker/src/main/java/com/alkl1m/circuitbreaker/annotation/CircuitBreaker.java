@@ -10,6 +10,13 @@ import java.lang.annotation.Target;
  * <p>
  * Позволяет автоматически прерывать выполнение метода при превышении заданного порога ошибок
  * или при превышении таймаута выполнения.
+ * <p>
+ * Если задано имя {@link #name()}, параметры можно переопределить во внешней конфигурации
+ * ({@code resilience.circuit-breaker.<name>.*}). Имя выбирает только политику: каждый метод
+ * сохраняет собственную цепь, и ошибки одного метода не размыкают цепь другого с тем же именем.
+ * <p>
+ * Если задан {@link #key()}, цепь заводится отдельно на каждое значение ключа, например на хост
+ * или шард: {@code @CircuitBreaker(key = "#host")}.
  *
  * @author AlKl1M
  */
@@ -17,6 +24,13 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 public @interface CircuitBreaker {
 
+    /**
+     * Имя Circuit Breaker для внешней конфигурации.
+     *
+     * @return имя политики (по умолчанию пустое - политика не применяется)
+     */
+    String name() default "";
+
     /**
      * Максимальное количество допускаемых ошибок перед активацией Circuit Breaker.
      *
@@ -31,4 +45,19 @@ public @interface CircuitBreaker {
      */
     long timeout() default 5000;
 
+    /**
+     * SpEL-выражение над аргументами метода ({@code #host}, {@code #p0}, {@code #request.shardId}),
+     * значение которого выбирает отдельную цепь.
+     *
+     * @return выражение ключа (по умолчанию пустое - одна цепь на метод или имя)
+     */
+    String key() default "";
+
+    /**
+     * Максимальное количество ключей, для которых хранится состояние.
+     *
+     * @return лимит ключей (по умолчанию 10000)
+     */
+    int maxKeys() default 10000;
+
 }
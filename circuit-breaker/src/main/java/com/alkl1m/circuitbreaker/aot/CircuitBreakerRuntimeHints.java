@@ -0,0 +1,24 @@
+package com.alkl1m.circuitbreaker.aot;
+
+import com.alkl1m.circuitbreaker.annotation.CircuitBreaker;
+import com.alkl1m.circuitbreaker.aspect.CircuitBreakerAspect;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Подсказки native-image: методы {@link CircuitBreaker} нужны для чтения имени политики и выражения
+ * ключа, {@link CircuitBreakerAspect} - для вызова advice-методов.
+ *
+ * @author AlKl1M
+ */
+public class CircuitBreakerRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(CircuitBreaker.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(CircuitBreakerAspect.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.alkl1m.circuitbreaker.aspect;
+
+import com.alkl1m.bulkhead.exception.BulkheadException;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Распознает отказы bulkhead.
+ * <p>
+ * Отказы bulkhead ({@code BulkheadException} и его подкласс {@code OverloadException}) не считаются
+ * ошибками цепи: вызов не дошел до сервиса, и сброс нагрузки не должен размыкать исправную цепь.
+ * Модуль bulkhead необязателен, поэтому классы исключений загружаются, только если он есть в classpath.
+ *
+ * @author AlKl1M
+ */
+final class BulkheadRejections {
+
+    private static final boolean BULKHEAD_PRESENT = ClassUtils.isPresent(
+            "com.alkl1m.bulkhead.exception.BulkheadException", BulkheadRejections.class.getClassLoader());
+
+    private BulkheadRejections() {
+    }
+
+    /**
+     * @param error исключение вызова
+     * @return true если вызов отклонен bulkhead
+     */
+    static boolean isRejection(Throwable error) {
+        return BULKHEAD_PRESENT && Bulkhead.isRejection(error);
+    }
+
+    private static final class Bulkhead {
+
+        private static boolean isRejection(Throwable error) {
+            return error instanceof BulkheadException;
+        }
+
+    }
+
+}
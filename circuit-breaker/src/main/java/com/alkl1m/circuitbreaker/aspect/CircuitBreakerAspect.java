@@ -1,15 +1,30 @@
 package com.alkl1m.circuitbreaker.aspect;
 
 import com.alkl1m.circuitbreaker.annotation.CircuitBreaker;
+import com.alkl1m.circuitbreaker.configuration.CircuitBreakerProperties;
 import com.alkl1m.circuitbreaker.enums.CircuitState;
 import com.alkl1m.circuitbreaker.exception.CircuitBreakerOpenException;
+import com.alkl1m.circuitbreaker.jfr.CircuitRejectedEvent;
+import com.alkl1m.circuitbreaker.jfr.CircuitStateTransitionEvent;
+import com.alkl1m.circuitbreaker.metrics.CircuitBreakerMetrics;
 import com.alkl1m.circuitbreaker.state.CircuitBreakerState;
+import com.alkl1m.circuitbreaker.state.KeyedCircuitBreakerStates;
+import com.alkl1m.time.Ticker;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
-import org.springframework.stereotype.Component;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 
+import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -29,6 +44,7 @@ import java.util.concurrent.ConcurrentHashMap;
  *   <li>Контроль времени выполнения через {@link CircuitBreaker#timeout()}</li>
  *   <li>Автоматическое переключение состояний</li>
  *   <li>Потокобезопасная реализация с использованием синхронизации</li>
+ *   <li>Отдельная цепь на значение аргумента через {@link CircuitBreaker#key()}</li>
  * </ul>
  *
  * @author AlKl1M
@@ -36,12 +52,46 @@ import java.util.concurrent.ConcurrentHashMap;
  * @see CircuitBreakerState
  */
 @Aspect
-@Component
+@Order(CircuitBreakerAspect.ORDER)
 public class CircuitBreakerAspect {
 
+    /**
+     * Порядок аспекта: внутри повторов и снаружи bulkhead и балансировщика, поэтому цепь учитывает
+     * каждую попытку, а отказ bulkhead или отсутствие доступной реплики считает ошибкой.
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 300;
+
     private final Map<String, CircuitBreakerState> circuitStates = new ConcurrentHashMap<>();
+    private final Map<String, KeyedCircuitBreakerStates> keyedCircuitStates = new ConcurrentHashMap<>();
+    private final Map<String, Expression> keyExpressions = new ConcurrentHashMap<>();
+    private final SpelExpressionParser expressionParser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private volatile CircuitBreakerProperties properties;
+    private volatile CircuitBreakerMetrics metrics;
+    private volatile Ticker ticker;
+
+    public CircuitBreakerAspect() {
+        this(new CircuitBreakerProperties(), CircuitBreakerMetrics.NOOP, Ticker.SYSTEM);
+    }
+
+    public CircuitBreakerAspect(CircuitBreakerProperties properties, CircuitBreakerMetrics metrics, Ticker ticker) {
+        configure(properties, metrics, ticker);
+    }
+
+    /**
+     * Вызывается из {@code CircuitBreakerConfiguration} для вплетенного экземпляра в режиме {@code aspectj}.
+     *
+     * @param properties именованные политики
+     * @param metrics метрики
+     * @param ticker источник времени
+     */
+    public void configure(CircuitBreakerProperties properties, CircuitBreakerMetrics metrics, Ticker ticker) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.ticker = ticker;
+    }
 
-    @Pointcut("@annotation(circuitBreaker)")
+    @Pointcut("execution(* *(..)) && @annotation(circuitBreaker)")
     public void circuitBrakerPointcut(CircuitBreaker circuitBreaker) {
     }
 
@@ -50,11 +100,15 @@ public class CircuitBreakerAspect {
      * <p>
      * Логика работы:
      * <ol>
+     *   <li>Выбирает состояние по методу и, если задан {@link CircuitBreaker#key()}, по значению ключа</li>
+     *   <li>Применяет именованную политику из {@link CircuitBreakerProperties} или значения аннотации</li>
      *   <li>Проверяет текущее состояние Circuit Breaker</li>
      *   <li>При OPEN состоянии проверяет возможность перехода в HALF_OPEN</li>
      *   <li>Выполняет целевой метод</li>
      *   <li>При успехе - сбрасывает состояние</li>
-     *   <li>При ошибке - обновляет счетчик ошибок и меняет состояние при необходимости</li>
+     *   <li>При ошибке - обновляет счетчик ошибок и меняет состояние при необходимости;
+     *   отказ bulkhead ({@link BulkheadRejections}) пробрасывается без учета</li>
+     *   <li>Сообщает о результате вызова и переходах состояний в {@link CircuitBreakerMetrics} и JFR</li>
      * </ol>
      *
      * @param joinPoint      точка соединения для получения информации о методе
@@ -66,40 +120,118 @@ public class CircuitBreakerAspect {
     @Around(value = "circuitBrakerPointcut(circuitBreaker)", argNames = "joinPoint, circuitBreaker")
     public Object handleCircuitBreaker(ProceedingJoinPoint joinPoint,
                                        CircuitBreaker circuitBreaker) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
         String methodName = joinPoint.getSignature().toLongString();
-        CircuitBreakerState state = circuitStates.computeIfAbsent(methodName,
-                k -> new CircuitBreakerState(
-                        circuitBreaker.failureThreshold(),
-                        circuitBreaker.timeout()
-                ));
+        CircuitBreakerProperties.Policy policy = properties.policy(circuitBreaker.name());
+        CircuitBreakerState state = circuitBreaker.key().isEmpty()
+                ? circuitStates.computeIfAbsent(methodName, k -> {
+                    CircuitBreakerState created = newState(circuitBreaker);
+                    metrics.onCircuitCreated(method, created);
+                    return created;
+                })
+                : keyedCircuitStates
+                        .computeIfAbsent(methodName, k -> new KeyedCircuitBreakerStates(circuitBreaker.maxKeys()))
+                        .getOrCreate(evaluateKey(joinPoint, method, circuitBreaker.key()), () -> newState(circuitBreaker));
 
         synchronized (state) {
+            applyPolicy(state, policy, circuitBreaker);
             if (state.getState() == CircuitState.OPEN) {
                 if (state.shouldTryReset()) {
-                    state.setState(CircuitState.HALF_OPEN);
+                    transition(method, state, CircuitState.HALF_OPEN);
                 } else {
+                    metrics.onRejected(method);
+                    CircuitRejectedEvent.emit(method);
                     throw new CircuitBreakerOpenException("Service unavailable");
                 }
             }
         }
 
+        long start = ticker.nanoTime();
         try {
             Object result = joinPoint.proceed();
             synchronized (state) {
+                CircuitState previous = state.getState();
                 state.reset();
+                if (previous != CircuitState.CLOSED) {
+                    metrics.onStateTransition(method, previous, CircuitState.CLOSED);
+                    CircuitStateTransitionEvent.emit(method, previous, CircuitState.CLOSED, 0);
+                }
             }
+            metrics.onSuccess(method, ticker.nanoTime() - start);
             return result;
         } catch (Exception e) {
+            if (BulkheadRejections.isRejection(e)) {
+                throw e;
+            }
             synchronized (state) {
                 state.recordFailure();
                 if (state.shouldOpen()) {
-                    state.setState(CircuitState.OPEN);
+                    transition(method, state, CircuitState.OPEN);
                 } else if (state.getState() == CircuitState.HALF_OPEN) {
-                    state.setState(CircuitState.OPEN);
+                    transition(method, state, CircuitState.OPEN);
                 }
             }
+            metrics.onFailure(method, ticker.nanoTime() - start);
             throw e;
         }
     }
 
+    /**
+     * Текущие состояния Circuit Breaker по сигнатуре метода, только для чтения.
+     *
+     * @return отображение сигнатуры метода на состояние
+     */
+    public Map<String, CircuitBreakerState> getCircuitStates() {
+        return Collections.unmodifiableMap(circuitStates);
+    }
+
+    /**
+     * Состояния Circuit Breaker с ключом по сигнатуре метода, только для чтения.
+     *
+     * @return отображение сигнатуры метода на реестр состояний по ключу
+     */
+    public Map<String, KeyedCircuitBreakerStates> getKeyedCircuitStates() {
+        return Collections.unmodifiableMap(keyedCircuitStates);
+    }
+
+    private CircuitBreakerState newState(CircuitBreaker circuitBreaker) {
+        return new CircuitBreakerState(circuitBreaker.failureThreshold(), circuitBreaker.timeout(), ticker);
+    }
+
+    /**
+     * Вычисляет значение ключа цепи над аргументами вызова. Разобранные выражения кэшируются.
+     */
+    private String evaluateKey(ProceedingJoinPoint joinPoint, Method method, String keyExpression) {
+        Expression expression = keyExpressions.computeIfAbsent(keyExpression, expressionParser::parseExpression);
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                joinPoint.getTarget(), method, joinPoint.getArgs(), parameterNameDiscoverer);
+        return String.valueOf(expression.getValue(context));
+    }
+
+    /**
+     * Применяет к состоянию значения именованной политики, а для незаданных в ней параметров
+     * (или после удаления политики) - значения из аннотации. Вызывается под монитором состояния.
+     */
+    private void applyPolicy(CircuitBreakerState state, CircuitBreakerProperties.Policy policy,
+                             CircuitBreaker circuitBreaker) {
+        state.setFailureThreshold(policy != null && policy.getFailureThreshold() != null
+                ? policy.getFailureThreshold()
+                : circuitBreaker.failureThreshold());
+        state.setTimeout(policy != null && policy.getTimeout() != null
+                ? policy.getTimeout()
+                : circuitBreaker.timeout());
+    }
+
+    /**
+     * Меняет состояние и сообщает о переходе в {@link CircuitBreakerMetrics} и JFR. Вызывается под монитором состояния.
+     */
+    private void transition(Method method, CircuitBreakerState state, CircuitState to) {
+        CircuitState from = state.getState();
+        if (from != to) {
+            state.setState(to);
+            metrics.onStateTransition(method, from, to);
+            CircuitStateTransitionEvent.emit(method, from, to, state.getFailureCount());
+        }
+    }
+
 }
@@ -1,20 +1,109 @@
 package com.alkl1m.circuitbreaker.configuration;
 
+import com.alkl1m.circuitbreaker.aot.CircuitBreakerRuntimeHints;
 import com.alkl1m.circuitbreaker.aspect.CircuitBreakerAspect;
+import com.alkl1m.circuitbreaker.endpoint.CircuitBreakersEndpoint;
+import com.alkl1m.circuitbreaker.metrics.CircuitBreakerMetrics;
+import com.alkl1m.circuitbreaker.metrics.MicrometerCircuitBreakerMetrics;
+import com.alkl1m.time.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.Aspects;
+import org.aspectj.lang.NoAspectBoundException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
- * Класс автоконфигурации
+ * Класс автоконфигурации.
+ * <p>
+ * В режиме прокси ({@code resilience.aop.mode=proxy}, по умолчанию) аспект создается как Spring-бин.
+ * В режиме {@code aspectj} Spring-прокси не создаются: аспект вплетается ajc или агентом load-time weaving
+ * по {@code META-INF/aop.xml}, и его единственный экземпляр создается самим AspectJ через конструктор
+ * без аргументов. Автоконфигурация берет его из {@code Aspects.aspectOf}, передает политики,
+ * метрики и {@link Ticker} через {@code configure} и регистрирует как бин.
+ * Если аспект не вплетен, контекст не запускается.
+ * <p>
+ * Метрики публикуются, если в контексте есть {@link MeterRegistry} и не задано
+ * {@code resilience.metrics.enabled=false}. Иначе аспект использует {@link CircuitBreakerMetrics#NOOP}.
+ * При наличии Actuator регистрируется эндпоинт {@code circuitbreakers}.
+ * <p>
+ * Именованные политики ({@code resilience.circuit-breaker.<name>.*}) задаются в {@link CircuitBreakerProperties}.
+ * <p>
+ * Таймауты отсчитываются по бину {@link Ticker}, если он объявлен (например, виртуальное время в тестах),
+ * иначе по {@link Ticker#SYSTEM}.
  *
  * @author AlKl1M
  */
 @Configuration
+@EnableConfigurationProperties(CircuitBreakerProperties.class)
+@ImportRuntimeHints(CircuitBreakerRuntimeHints.class)
 public class CircuitBreakerConfiguration {
 
     @Bean
-    public CircuitBreakerAspect circuitBreakerAspect() {
-        return new CircuitBreakerAspect();
+    @ConditionalOnProperty(prefix = "resilience.aop", name = "mode", havingValue = "proxy", matchIfMissing = true)
+    public CircuitBreakerAspect circuitBreakerAspect(CircuitBreakerProperties properties,
+                                                     ObjectProvider<CircuitBreakerMetrics> metrics,
+                                                     ObjectProvider<Ticker> ticker) {
+        return new CircuitBreakerAspect(properties,
+                metrics.getIfAvailable(() -> CircuitBreakerMetrics.NOOP),
+                ticker.getIfAvailable(() -> Ticker.SYSTEM));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "resilience.aop", name = "mode", havingValue = "aspectj")
+    static class CircuitBreakerAspectJConfiguration {
+
+        @Bean
+        public CircuitBreakerAspect circuitBreakerAspect(CircuitBreakerProperties properties,
+                                                         ObjectProvider<CircuitBreakerMetrics> metrics,
+                                                         ObjectProvider<Ticker> ticker) {
+            CircuitBreakerAspect aspect = wovenAspect();
+            aspect.configure(properties,
+                    metrics.getIfAvailable(() -> CircuitBreakerMetrics.NOOP),
+                    ticker.getIfAvailable(() -> Ticker.SYSTEM));
+            return aspect;
+        }
+
+        private static CircuitBreakerAspect wovenAspect() {
+            try {
+                return Aspects.aspectOf(CircuitBreakerAspect.class);
+            } catch (NoAspectBoundException e) {
+                throw new IllegalStateException("resilience.aop.mode=aspectj, but CircuitBreakerAspect is not woven: "
+                        + "compile with ajc or start the JVM with -javaagent:aspectjweaver.jar", e);
+            }
+        }
+
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "resilience.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class CircuitBreakerMetricsConfiguration {
+
+        @Bean
+        public CircuitBreakerMetrics circuitBreakerMetrics(ObjectProvider<MeterRegistry> registry) {
+            MeterRegistry meterRegistry = registry.getIfAvailable();
+            return meterRegistry != null ? new MicrometerCircuitBreakerMetrics(meterRegistry) : CircuitBreakerMetrics.NOOP;
+        }
+
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class CircuitBreakerEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnAvailableEndpoint
+        public CircuitBreakersEndpoint circuitBreakersEndpoint(CircuitBreakerAspect circuitBreakerAspect) {
+            return new CircuitBreakersEndpoint(circuitBreakerAspect);
+        }
+
     }
 
 }
@@ -0,0 +1,80 @@
+package com.alkl1m.circuitbreaker.configuration;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Именованные политики Circuit Breaker, переопределяющие значения из аннотации
+ * {@link com.alkl1m.circuitbreaker.annotation.CircuitBreaker}.
+ * <pre>
+ * resilience.circuit-breaker.payments.failure-threshold=10
+ * resilience.circuit-breaker.payments.timeout=30000
+ * </pre>
+ * Политики неизменяемы, при привязке свойств заменяется все отображение целиком, поэтому аспект,
+ * читающий политику на каждом вызове, всегда видит согласованный набор значений.
+ * <p>
+ * Сама библиотека свойства не перепривязывает. Изменение на лету требует внешнего механизма,
+ * например {@code ConfigurationPropertiesRebinder} из Spring Cloud Context
+ * ({@code /actuator/refresh}), тогда новые значения применяются к существующей цепи без сброса
+ * ее состояния, а после удаления политики восстанавливаются значения аннотации. Если из
+ * конфигурации удален весь раздел {@code resilience.circuit-breaker}, привязка его не затрагивает
+ * и прежние политики остаются в силе.
+ *
+ * @author AlKl1M
+ */
+@ConfigurationProperties("resilience")
+public class CircuitBreakerProperties {
+
+    private volatile Map<String, Policy> circuitBreaker = Map.of();
+
+    /**
+     * Возвращает политику по имени.
+     *
+     * @param name имя из аннотации
+     * @return политика или null, если для имени ничего не задано
+     */
+    public Policy policy(String name) {
+        return name.isEmpty() ? null : circuitBreaker.get(name);
+    }
+
+    /**
+     * Заменяет набор политик целиком.
+     *
+     * @param circuitBreaker политики по имени
+     */
+    public void setCircuitBreaker(Map<String, Policy> circuitBreaker) {
+        this.circuitBreaker = Map.copyOf(circuitBreaker);
+    }
+
+    @Getter
+    public static class Policy {
+
+        /**
+         * Количество ошибок до размыкания цепи.
+         */
+        private final Integer failureThreshold;
+
+        /**
+         * Время до пробного вызова в миллисекундах.
+         */
+        private final Long timeout;
+
+        /**
+         * @throws IllegalArgumentException если порог не положителен или таймаут отрицателен
+         */
+        public Policy(Integer failureThreshold, Long timeout) {
+            if (failureThreshold != null && failureThreshold <= 0) {
+                throw new IllegalArgumentException("failure-threshold must be positive: " + failureThreshold);
+            }
+            if (timeout != null && timeout < 0) {
+                throw new IllegalArgumentException("timeout must not be negative: " + timeout);
+            }
+            this.failureThreshold = failureThreshold;
+            this.timeout = timeout;
+        }
+
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.alkl1m.circuitbreaker.endpoint;
+
+import com.alkl1m.circuitbreaker.aspect.CircuitBreakerAspect;
+import com.alkl1m.circuitbreaker.enums.CircuitState;
+import com.alkl1m.circuitbreaker.state.CircuitBreakerState;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Actuator-эндпоинт {@code /actuator/circuitbreakers}: текущие состояния всех Circuit Breaker.
+ * <p>
+ * Для цепей с ключом ({@code name[key]}) показываются только ключи с ошибками или не в состоянии CLOSED,
+ * чтобы ответ не разрастался до размера реестра.
+ *
+ * @author AlKl1M
+ */
+@Endpoint(id = "circuitbreakers")
+public class CircuitBreakersEndpoint {
+
+    private final CircuitBreakerAspect circuitBreakerAspect;
+
+    public CircuitBreakersEndpoint(CircuitBreakerAspect circuitBreakerAspect) {
+        this.circuitBreakerAspect = circuitBreakerAspect;
+    }
+
+    @ReadOperation
+    public Map<String, CircuitBreakerDescriptor> circuitBreakers() {
+        Map<String, CircuitBreakerDescriptor> descriptors = new TreeMap<>();
+        circuitBreakerAspect.getCircuitStates()
+                .forEach((name, state) -> descriptors.put(name, CircuitBreakerDescriptor.of(state)));
+        circuitBreakerAspect.getKeyedCircuitStates()
+                .forEach((name, keyed) -> keyed.getStates().forEach((key, state) -> {
+                    if (!state.isIdle()) {
+                        descriptors.put(name + "[" + key + "]", CircuitBreakerDescriptor.of(state));
+                    }
+                }));
+        return descriptors;
+    }
+
+    /**
+     * Снимок состояния одного Circuit Breaker.
+     *
+     * @param state            текущее состояние
+     * @param failureCount     накопленное количество ошибок
+     * @param failureThreshold порог ошибок
+     * @param timeout          время до пробного вызова в миллисекундах
+     */
+    public record CircuitBreakerDescriptor(CircuitState state, int failureCount, int failureThreshold, long timeout) {
+
+        static CircuitBreakerDescriptor of(CircuitBreakerState state) {
+            synchronized (state) {
+                return new CircuitBreakerDescriptor(state.getState(), state.getFailureCount(),
+                        state.getFailureThreshold(), state.getTimeout());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.alkl1m.circuitbreaker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.lang.reflect.Method;
+
+/**
+ * JFR-событие отклонения вызова разомкнутым Circuit Breaker.
+ *
+ * @author AlKl1M
+ */
+@Name("com.alkl1m.circuitbreaker.Rejected")
+@Label("Circuit Rejected")
+@Category({"Resilience", "Circuit Breaker"})
+@Description("Call rejected because the circuit is open")
+@StackTrace(false)
+public class CircuitRejectedEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    /**
+     * Записывает событие, если оно включено.
+     *
+     * @param method метод
+     */
+    public static void emit(Method method) {
+        CircuitRejectedEvent event = new CircuitRejectedEvent();
+        if (event.shouldCommit()) {
+            event.method = method.getDeclaringClass().getName() + "#" + method.getName();
+            event.commit();
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.alkl1m.circuitbreaker.jfr;
+
+import com.alkl1m.circuitbreaker.enums.CircuitState;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.lang.reflect.Method;
+
+/**
+ * JFR-событие перехода Circuit Breaker в другое состояние.
+ *
+ * @author AlKl1M
+ */
+@Name("com.alkl1m.circuitbreaker.StateTransition")
+@Label("Circuit State Transition")
+@Category({"Resilience", "Circuit Breaker"})
+@Description("Circuit breaker changed its state")
+@StackTrace(false)
+public class CircuitStateTransitionEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("From")
+    String from;
+
+    @Label("To")
+    String to;
+
+    @Label("Failure Count")
+    int failureCount;
+
+    /**
+     * Записывает событие, если оно включено.
+     *
+     * @param method       метод
+     * @param from         предыдущее состояние
+     * @param to           новое состояние
+     * @param failureCount накопленное количество ошибок
+     */
+    public static void emit(Method method, CircuitState from, CircuitState to, int failureCount) {
+        CircuitStateTransitionEvent event = new CircuitStateTransitionEvent();
+        if (event.shouldCommit()) {
+            event.method = method.getDeclaringClass().getName() + "#" + method.getName();
+            event.from = from.name();
+            event.to = to.name();
+            event.failureCount = failureCount;
+            event.commit();
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.alkl1m.circuitbreaker.metrics;
+
+import com.alkl1m.circuitbreaker.enums.CircuitState;
+import com.alkl1m.circuitbreaker.state.CircuitBreakerState;
+
+import java.lang.reflect.Method;
+
+/**
+ * Точка сбора метрик {@link com.alkl1m.circuitbreaker.aspect.CircuitBreakerAspect}.
+ * <p>
+ * Реализация по умолчанию {@link #NOOP} ничего не делает: вызовы пустых методов
+ * встраиваются JIT-компилятором и не стоят ничего, когда метрики выключены.
+ *
+ * @author AlKl1M
+ */
+public interface CircuitBreakerMetrics {
+
+    CircuitBreakerMetrics NOOP = new CircuitBreakerMetrics() {
+    };
+
+    /**
+     * Вызывается один раз при создании состояния Circuit Breaker.
+     *
+     * @param method метод
+     * @param state  созданное состояние
+     */
+    default void onCircuitCreated(Method method, CircuitBreakerState state) {
+    }
+
+    /**
+     * Вызов выполнен успешно.
+     *
+     * @param method        метод
+     * @param durationNanos длительность вызова
+     */
+    default void onSuccess(Method method, long durationNanos) {
+    }
+
+    /**
+     * Вызов завершился ошибкой.
+     *
+     * @param method        метод
+     * @param durationNanos длительность вызова
+     */
+    default void onFailure(Method method, long durationNanos) {
+    }
+
+    /**
+     * Вызов отклонен, так как цепь разомкнута.
+     *
+     * @param method метод
+     */
+    default void onRejected(Method method) {
+    }
+
+    /**
+     * Состояние цепи изменилось.
+     *
+     * @param method метод
+     * @param from   предыдущее состояние
+     * @param to     новое состояние
+     */
+    default void onStateTransition(Method method, CircuitState from, CircuitState to) {
+    }
+
+}
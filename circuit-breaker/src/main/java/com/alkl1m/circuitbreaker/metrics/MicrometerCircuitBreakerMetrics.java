@@ -0,0 +1,137 @@
+package com.alkl1m.circuitbreaker.metrics;
+
+import com.alkl1m.circuitbreaker.enums.CircuitState;
+import com.alkl1m.circuitbreaker.state.CircuitBreakerState;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Метрики Circuit Breaker, публикуемые через Micrometer.
+ * <p>
+ * На горячем пути только инкременты {@link LongAdder}, запись в {@link Timer} и чтение
+ * из {@link ConcurrentHashMap} по ключу {@link Method}, без аллокаций:
+ * <ul>
+ *   <li>{@code resilience.circuitbreaker.calls{method, signature, result}} - успешные, неуспешные и отклоненные вызовы</li>
+ *   <li>{@code resilience.circuitbreaker.duration{method, signature, result}} - длительность пропущенных вызовов</li>
+ *   <li>{@code resilience.circuitbreaker.transitions{method, signature, state}} - переходы в каждое состояние</li>
+ *   <li>{@code resilience.circuitbreaker.state{method, signature}} - текущее состояние (порядковый номер {@link CircuitState})</li>
+ * </ul>
+ *
+ * @author AlKl1M
+ */
+public class MicrometerCircuitBreakerMetrics implements CircuitBreakerMetrics {
+
+    private static final CircuitState[] STATES = CircuitState.values();
+
+    private final MeterRegistry registry;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public MicrometerCircuitBreakerMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onCircuitCreated(Method method, CircuitBreakerState state) {
+        Gauge.builder("resilience.circuitbreaker.state", state, s -> s.getState().ordinal())
+                .tags(tags(method))
+                .description("Current circuit state: 0 - CLOSED, 1 - OPEN, 2 - HALF_OPEN")
+                .register(registry);
+    }
+
+    @Override
+    public void onSuccess(Method method, long durationNanos) {
+        MethodMeters methodMeters = meters(method);
+        methodMeters.successfulCalls.increment();
+        methodMeters.successfulDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onFailure(Method method, long durationNanos) {
+        MethodMeters methodMeters = meters(method);
+        methodMeters.failedCalls.increment();
+        methodMeters.failedDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onRejected(Method method) {
+        meters(method).rejectedCalls.increment();
+    }
+
+    @Override
+    public void onStateTransition(Method method, CircuitState from, CircuitState to) {
+        meters(method).transitions[to.ordinal()].increment();
+    }
+
+    private MethodMeters meters(Method method) {
+        MethodMeters methodMeters = meters.get(method);
+        if (methodMeters == null) {
+            methodMeters = meters.computeIfAbsent(method, this::register);
+        }
+        return methodMeters;
+    }
+
+    private MethodMeters register(Method method) {
+        Tags tags = tags(method);
+        MethodMeters methodMeters = new MethodMeters(duration(tags, "success"), duration(tags, "failure"));
+        registerCalls(tags, "success", methodMeters.successfulCalls);
+        registerCalls(tags, "failure", methodMeters.failedCalls);
+        registerCalls(tags, "rejected", methodMeters.rejectedCalls);
+        for (CircuitState state : STATES) {
+            FunctionCounter.builder("resilience.circuitbreaker.transitions",
+                            methodMeters.transitions[state.ordinal()], LongAdder::sum)
+                    .tags(tags)
+                    .tag("state", state.name())
+                    .description("Transitions into the circuit state")
+                    .register(registry);
+        }
+        return methodMeters;
+    }
+
+    private void registerCalls(Tags tags, String result, LongAdder adder) {
+        FunctionCounter.builder("resilience.circuitbreaker.calls", adder, LongAdder::sum)
+                .tags(tags)
+                .tag("result", result)
+                .description("Calls through the circuit breaker by result")
+                .register(registry);
+    }
+
+    private Timer duration(Tags tags, String result) {
+        return Timer.builder("resilience.circuitbreaker.duration")
+                .tags(tags)
+                .tag("result", result)
+                .description("Duration of calls let through the circuit breaker")
+                .register(registry);
+    }
+
+    private static Tags tags(Method method) {
+        return Tags.of("method", method.getDeclaringClass().getName() + "#" + method.getName(),
+                "signature", method.toGenericString());
+    }
+
+    private static final class MethodMeters {
+        private final LongAdder successfulCalls = new LongAdder();
+        private final LongAdder failedCalls = new LongAdder();
+        private final LongAdder rejectedCalls = new LongAdder();
+        private final LongAdder[] transitions = new LongAdder[STATES.length];
+        private final Timer successfulDuration;
+        private final Timer failedDuration;
+
+        private MethodMeters(Timer successfulDuration, Timer failedDuration) {
+            this.successfulDuration = successfulDuration;
+            this.failedDuration = failedDuration;
+            for (int i = 0; i < transitions.length; i++) {
+                transitions[i] = new LongAdder();
+            }
+        }
+    }
+
+}
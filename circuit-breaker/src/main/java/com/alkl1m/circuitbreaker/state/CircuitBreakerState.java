@@ -1,10 +1,13 @@
 package com.alkl1m.circuitbreaker.state;
 
 import com.alkl1m.circuitbreaker.enums.CircuitState;
+import com.alkl1m.time.Ticker;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Класс для хранения и управления состоянием Circuit Breaker для конкретного метода.
  * <p>
@@ -15,19 +18,34 @@ import lombok.Setter;
  * </ul>
  *
  * <p>Потокобезопасная реализация с использованием synchronized методов.
+ * Порог ошибок и таймаут можно менять на лету, накопленное состояние при этом сохраняется.
+ * <p>
+ * Время последней ошибки берется из монотонного {@link Ticker} в наносекундах, а не из системных часов,
+ * поэтому перевод часов не влияет на таймаут.
  *
  * @author AlKl1M
  * @see CircuitState
  */
 @Getter
 @Setter
-@RequiredArgsConstructor
 public class CircuitBreakerState {
     private CircuitState state = CircuitState.CLOSED;
     private int failureCount = 0;
     private long lastFailureTime;
-    private final int failureThreshold;
-    private final long timeout;
+    private volatile int failureThreshold;
+    private volatile long timeout;
+    @Getter(AccessLevel.NONE)
+    private final Ticker ticker;
+
+    public CircuitBreakerState(int failureThreshold, long timeout) {
+        this(failureThreshold, timeout, Ticker.SYSTEM);
+    }
+
+    public CircuitBreakerState(int failureThreshold, long timeout, Ticker ticker) {
+        this.failureThreshold = failureThreshold;
+        this.timeout = timeout;
+        this.ticker = ticker;
+    }
 
     /**
      * Фиксирует новую ошибку в текущем состоянии.
@@ -40,7 +58,7 @@ public class CircuitBreakerState {
      */
     public synchronized void recordFailure() {
         failureCount++;
-        lastFailureTime = System.currentTimeMillis();
+        lastFailureTime = ticker.nanoTime();
     }
 
     /**
@@ -66,13 +84,22 @@ public class CircuitBreakerState {
         return failureCount >= failureThreshold;
     }
 
+    /**
+     * Проверяет, что состояние не отличается от только что созданного.
+     *
+     * @return true если цепь закрыта и ошибок нет
+     */
+    public synchronized boolean isIdle() {
+        return state == CircuitState.CLOSED && failureCount == 0;
+    }
+
     /**
      * Проверяет возможность попытки сброса состояния.
      *
      * @return true если с момента последней ошибки прошло больше времени, чем заданный timeout
      */
     public synchronized boolean shouldTryReset() {
-        return (System.currentTimeMillis() - lastFailureTime) > timeout;
+        return (ticker.nanoTime() - lastFailureTime) > TimeUnit.MILLISECONDS.toNanos(timeout);
     }
 
 }
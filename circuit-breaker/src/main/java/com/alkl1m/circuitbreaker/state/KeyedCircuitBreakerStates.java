@@ -0,0 +1,115 @@
+package com.alkl1m.circuitbreaker.state;
+
+import com.alkl1m.circuitbreaker.enums.CircuitState;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Ограниченный реестр состояний Circuit Breaker по ключу аргумента (хост, шард и т.п.)
+ * для одного метода или имени из {@link com.alkl1m.circuitbreaker.annotation.CircuitBreaker#key()}.
+ * <p>
+ * На каждый ключ хранится только {@link CircuitBreakerState} (несколько десятков байт) без метрик
+ * и JFR-подписок, поэтому десятки тысяч ключей занимают единицы мегабайт.
+ * <p>
+ * При превышении {@code maxKeys} реестр сокращается до 90% лимита:
+ * <ol>
+ *   <li>сначала удаляются закрытые цепи без ошибок - они неотличимы от только что созданных,
+ *   поэтому их удаление ничего не теряет</li>
+ *   <li>затем, если этого недостаточно, цепи с самой давней последней ошибкой; время ошибки
+ *   копируется до сортировки, так как параллельные вызовы продолжают его менять</li>
+ * </ol>
+ * Разомкнутая цепь, таймаут которой еще не истек, не удаляется никогда: иначе следующий вызов
+ * с тем же ключом получил бы закрытую цепь и снова нагрузил бы отказавший хост. Если таких цепей
+ * больше лимита, реестр временно его превышает.
+ * Только что созданный ключ, ставший причиной сокращения, не удаляется - иначе вызов
+ * записал бы ошибки в состояние, которого уже нет в реестре, и цепь для нового ключа не открылась бы.
+ * Вызов, который уже получил удаленное состояние, завершится на нем; следующий вызов
+ * с тем же ключом начнет с чистого состояния.
+ *
+ * @author AlKl1M
+ */
+public class KeyedCircuitBreakerStates {
+
+    private final Map<String, CircuitBreakerState> states = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final int maxKeys;
+
+    public KeyedCircuitBreakerStates(int maxKeys) {
+        this.maxKeys = Math.max(1, maxKeys);
+    }
+
+    /**
+     * Возвращает состояние для ключа, создавая его при необходимости.
+     *
+     * @param key     значение ключа
+     * @param factory создание нового состояния
+     * @return состояние для ключа
+     */
+    public CircuitBreakerState getOrCreate(String key, Supplier<CircuitBreakerState> factory) {
+        CircuitBreakerState state = states.get(key);
+        if (state == null) {
+            state = states.computeIfAbsent(key, k -> factory.get());
+            if (states.size() > maxKeys) {
+                evict(key);
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Текущие состояния по ключу, только для чтения.
+     *
+     * @return отображение ключа на состояние
+     */
+    public Map<String, CircuitBreakerState> getStates() {
+        return Collections.unmodifiableMap(states);
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    private void evict(String createdKey) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int target = maxKeys - maxKeys / 10;
+            states.entrySet().removeIf(entry -> states.size() > target
+                    && !entry.getKey().equals(createdKey)
+                    && entry.getValue().isIdle());
+            int excess = states.size() - target;
+            if (excess > 0) {
+                List<EvictionCandidate> candidates = new ArrayList<>();
+                for (Map.Entry<String, CircuitBreakerState> entry : states.entrySet()) {
+                    CircuitBreakerState state = entry.getValue();
+                    if (entry.getKey().equals(createdKey)) {
+                        continue;
+                    }
+                    synchronized (state) {
+                        if (state.getState() != CircuitState.OPEN || state.shouldTryReset()) {
+                            candidates.add(new EvictionCandidate(entry.getKey(), state, state.getLastFailureTime()));
+                        }
+                    }
+                }
+                candidates.sort(Comparator.comparingLong(EvictionCandidate::lastFailureTime));
+                candidates.stream()
+                        .limit(excess)
+                        .forEach(candidate -> states.remove(candidate.key(), candidate.state()));
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private record EvictionCandidate(String key, CircuitBreakerState state, long lastFailureTime) {
+    }
+
+}
@@ -1,7 +1,10 @@
 package com.alkl1m.circuitbreaker.aspect;
 
 import com.alkl1m.circuitbreaker.annotation.CircuitBreaker;
+import com.alkl1m.circuitbreaker.configuration.CircuitBreakerProperties;
 import com.alkl1m.circuitbreaker.exception.CircuitBreakerOpenException;
+import com.alkl1m.circuitbreaker.metrics.CircuitBreakerMetrics;
+import com.alkl1m.time.VirtualTime;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -10,17 +13,27 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.stereotype.Service;
 
-import static java.util.concurrent.TimeUnit.SECONDS;
-import static org.awaitility.Awaitility.await;
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-@SpringBootTest(classes = {CircuitBreakerAspectTest.TestConfig.class, CircuitBreakerAspect.class})
+@SpringBootTest(classes = CircuitBreakerAspectTest.TestConfig.class)
 @EnableAspectJAutoProxy
 class CircuitBreakerAspectTest {
 
     @Configuration
     static class TestConfig {
+        @Bean
+        public VirtualTime virtualTime() {
+            return new VirtualTime();
+        }
+
+        @Bean
+        public CircuitBreakerAspect circuitBreakerAspect(VirtualTime virtualTime) {
+            return new CircuitBreakerAspect(new CircuitBreakerProperties(), CircuitBreakerMetrics.NOOP, virtualTime);
+        }
+
         @Bean
         public TestService testService() {
             return new TestService();
@@ -39,6 +52,14 @@ class CircuitBreakerAspectTest {
             return "Success";
         }
 
+        @CircuitBreaker(key = "#shard", failureThreshold = 2, timeout = 60000)
+        public String executeOnShard(String shard) {
+            if (shard.startsWith("dead")) {
+                throw new RuntimeException("Shard " + shard + " is down");
+            }
+            return "Success from " + shard;
+        }
+
         public void setShouldFail(boolean shouldFail) {
             this.shouldFail = shouldFail;
         }
@@ -47,8 +68,12 @@ class CircuitBreakerAspectTest {
     @Autowired
     private TestService testService;
 
+    @Autowired
+    private VirtualTime time;
+
     @Test
     void testCircuitBreakerOpensAfterThreshold() {
+        testService.setShouldFail(true);
         for (int i = 0; i < 3; i++) {
             assertThrows(RuntimeException.class, testService::execute);
         }
@@ -63,10 +88,11 @@ class CircuitBreakerAspectTest {
         }
 
         testService.setShouldFail(false);
+        assertThrows(CircuitBreakerOpenException.class, testService::execute);
 
-        await().atMost(5, SECONDS).pollDelay(1, SECONDS).untilAsserted(() -> {
-            assertEquals("Success", testService.execute());
-        });
+        time.advance(Duration.ofMillis(1001));
+
+        assertEquals("Success", testService.execute());
     }
 
     @Test
@@ -76,10 +102,21 @@ class CircuitBreakerAspectTest {
             assertThrows(RuntimeException.class, testService::execute);
         }
 
-        await().atMost(2, SECONDS).untilAsserted(() -> {
-            assertThrows(RuntimeException.class, testService::execute);
-        });
+        time.advance(Duration.ofMillis(1001));
+        assertThrows(RuntimeException.class, testService::execute);
 
         assertThrows(CircuitBreakerOpenException.class, testService::execute);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCircuitBreaker_WithKey_OpensOnlyForFailingKey() {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(RuntimeException.class, () -> testService.executeOnShard("dead-1"));
+        }
+
+        assertThrows(CircuitBreakerOpenException.class, () -> testService.executeOnShard("dead-1"));
+        assertEquals("Success from shard-2", testService.executeOnShard("shard-2"));
+        assertThrows(RuntimeException.class, () -> testService.executeOnShard("dead-3"));
+    }
+
+}
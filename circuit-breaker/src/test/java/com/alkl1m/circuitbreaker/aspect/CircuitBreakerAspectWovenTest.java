@@ -0,0 +1,85 @@
+package com.alkl1m.circuitbreaker.aspect;
+
+import com.alkl1m.circuitbreaker.annotation.CircuitBreaker;
+import com.alkl1m.circuitbreaker.configuration.CircuitBreakerConfiguration;
+import com.alkl1m.circuitbreaker.exception.CircuitBreakerOpenException;
+import com.alkl1m.time.VirtualTime;
+import org.aspectj.lang.Aspects;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Запускается отдельным прогоном surefire с агентом aspectjweaver (см. pom.xml).
+ */
+@SpringBootTest(classes = CircuitBreakerAspectWovenTest.TestConfig.class, properties = "resilience.aop.mode=aspectj")
+class CircuitBreakerAspectWovenTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Autowired
+    private CircuitBreakerAspect circuitBreakerAspect;
+
+    @Autowired
+    private VirtualTime time;
+
+    @Test
+    void whenWoven_thenCircuitUsesContextTicker() {
+        assertFalse(AopUtils.isAopProxy(testService));
+        assertSame(Aspects.aspectOf(CircuitBreakerAspect.class), circuitBreakerAspect);
+
+        testService.setShouldFail(true);
+        assertThrows(IllegalStateException.class, testService::execute);
+        assertThrows(CircuitBreakerOpenException.class, testService::execute);
+
+        testService.setShouldFail(false);
+        time.advance(Duration.ofMillis(1001));
+
+        assertEquals("Success", testService.execute());
+    }
+
+    @Configuration
+    @Import(CircuitBreakerConfiguration.class)
+    static class TestConfig {
+
+        @Bean
+        public VirtualTime virtualTime() {
+            return new VirtualTime();
+        }
+
+        @Bean
+        public TestService testService() {
+            return new TestService();
+        }
+
+    }
+
+    static class TestService {
+        private boolean shouldFail;
+
+        @CircuitBreaker(failureThreshold = 1, timeout = 1000)
+        public String execute() {
+            if (shouldFail) {
+                throw new IllegalStateException("Simulated failure");
+            }
+            return "Success";
+        }
+
+        public void setShouldFail(boolean shouldFail) {
+            this.shouldFail = shouldFail;
+        }
+    }
+
+}
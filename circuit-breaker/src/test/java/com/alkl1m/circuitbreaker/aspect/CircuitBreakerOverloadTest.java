@@ -0,0 +1,107 @@
+package com.alkl1m.circuitbreaker.aspect;
+
+import com.alkl1m.bulkhead.annotation.Bulkhead;
+import com.alkl1m.bulkhead.aspect.BulkheadAspect;
+import com.alkl1m.bulkhead.configuration.BulkheadProperties;
+import com.alkl1m.bulkhead.enums.Priority;
+import com.alkl1m.bulkhead.exception.OverloadException;
+import com.alkl1m.bulkhead.metrics.BulkheadMetrics;
+import com.alkl1m.circuitbreaker.annotation.CircuitBreaker;
+import com.alkl1m.circuitbreaker.configuration.CircuitBreakerProperties;
+import com.alkl1m.circuitbreaker.enums.CircuitState;
+import com.alkl1m.circuitbreaker.metrics.CircuitBreakerMetrics;
+import com.alkl1m.retry.annotation.Retryable;
+import com.alkl1m.retry.aspect.RetryAspect;
+import com.alkl1m.retry.configuration.RetryProperties;
+import com.alkl1m.retry.hint.RetryHintExtractor;
+import com.alkl1m.retry.metrics.RetryMetrics;
+import com.alkl1m.time.Sleeper;
+import com.alkl1m.time.Ticker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = CircuitBreakerOverloadTest.TestConfig.class)
+@EnableAspectJAutoProxy
+class CircuitBreakerOverloadTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Autowired
+    private TestConfig testConfig;
+
+    @Autowired
+    private CircuitBreakerAspect circuitBreakerAspect;
+
+    @Test
+    void testOverload_whenCallsAreShed_neitherOpensCircuitNorRetries() {
+        testConfig.overloaded.set(true);
+        for (int i = 0; i < 5; i++) {
+            assertThrows(OverloadException.class, testService::call);
+        }
+
+        assertEquals(5, testConfig.admissionChecks.get());
+        assertEquals(0, testService.getCalls());
+        assertEquals(CircuitState.CLOSED,
+                circuitBreakerAspect.getCircuitStates().values().iterator().next().getState());
+
+        testConfig.overloaded.set(false);
+        assertEquals("ok", testService.call());
+    }
+
+    @Configuration
+    static class TestConfig {
+        private final AtomicBoolean overloaded = new AtomicBoolean();
+        private final AtomicInteger admissionChecks = new AtomicInteger();
+
+        @Bean
+        public RetryAspect retryAspect() {
+            return new RetryAspect(new RetryProperties(), RetryMetrics.NOOP, RetryHintExtractor.NONE, Sleeper.SYSTEM);
+        }
+
+        @Bean
+        public CircuitBreakerAspect circuitBreakerAspect() {
+            return new CircuitBreakerAspect(new CircuitBreakerProperties(), CircuitBreakerMetrics.NOOP, Ticker.SYSTEM);
+        }
+
+        @Bean
+        public BulkheadAspect bulkheadAspect() {
+            return new BulkheadAspect(new BulkheadProperties(), BulkheadMetrics.NOOP, priority -> {
+                admissionChecks.incrementAndGet();
+                return !overloaded.get();
+            });
+        }
+
+        @Bean
+        public TestService testService() {
+            return new TestService();
+        }
+    }
+
+    static class TestService {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Retryable(maxAttempts = 3, backoff = 0)
+        @CircuitBreaker(failureThreshold = 1, timeout = 60000)
+        @Bulkhead(maxConcurrentCalls = 10, priority = Priority.LOW)
+        public String call() {
+            calls.incrementAndGet();
+            return "ok";
+        }
+
+        public int getCalls() {
+            return calls.get();
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.alkl1m.circuitbreaker.endpoint;
+
+import com.alkl1m.circuitbreaker.annotation.CircuitBreaker;
+import com.alkl1m.circuitbreaker.aspect.CircuitBreakerAspect;
+import com.alkl1m.circuitbreaker.configuration.CircuitBreakerProperties;
+import com.alkl1m.circuitbreaker.endpoint.CircuitBreakersEndpoint.CircuitBreakerDescriptor;
+import com.alkl1m.circuitbreaker.enums.CircuitState;
+import com.alkl1m.circuitbreaker.exception.CircuitBreakerOpenException;
+import com.alkl1m.circuitbreaker.metrics.MicrometerCircuitBreakerMetrics;
+import com.alkl1m.time.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = CircuitBreakersEndpointTest.TestConfig.class)
+@EnableAspectJAutoProxy
+class CircuitBreakersEndpointTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Autowired
+    private CircuitBreakersEndpoint endpoint;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testEndpoint_whenThresholdReached_reportsOpenCircuitAndMetrics() {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(RuntimeException.class, testService::execute);
+        }
+        assertThrows(CircuitBreakerOpenException.class, testService::execute);
+
+        Map<String, CircuitBreakerDescriptor> circuitBreakers = endpoint.circuitBreakers();
+        assertEquals(1, circuitBreakers.size());
+        CircuitBreakerDescriptor descriptor = circuitBreakers.values().iterator().next();
+        assertEquals(CircuitState.OPEN, descriptor.state());
+        assertEquals(2, descriptor.failureCount());
+        assertEquals(2, descriptor.failureThreshold());
+
+        String method = TestService.class.getName() + "#execute";
+        assertEquals(2, meterRegistry.get("resilience.circuitbreaker.calls")
+                .tag("method", method).tag("result", "failure").functionCounter().count());
+        assertEquals(1, meterRegistry.get("resilience.circuitbreaker.calls")
+                .tag("method", method).tag("result", "rejected").functionCounter().count());
+        assertEquals(2, meterRegistry.get("resilience.circuitbreaker.duration")
+                .tag("method", method).tag("result", "failure").timer().count());
+        assertEquals(1, meterRegistry.get("resilience.circuitbreaker.transitions")
+                .tag("method", method).tag("state", "OPEN").functionCounter().count());
+        assertEquals(CircuitState.OPEN.ordinal(), meterRegistry.get("resilience.circuitbreaker.state")
+                .tag("method", method).gauge().value());
+    }
+
+    @Configuration
+    static class TestConfig {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public CircuitBreakerAspect circuitBreakerAspect(MeterRegistry meterRegistry) {
+            return new CircuitBreakerAspect(new CircuitBreakerProperties(),
+                    new MicrometerCircuitBreakerMetrics(meterRegistry), Ticker.SYSTEM);
+        }
+
+        @Bean
+        public CircuitBreakersEndpoint circuitBreakersEndpoint(CircuitBreakerAspect circuitBreakerAspect) {
+            return new CircuitBreakersEndpoint(circuitBreakerAspect);
+        }
+
+        @Bean
+        public TestService testService() {
+            return new TestService();
+        }
+
+    }
+
+    static class TestService {
+
+        @CircuitBreaker(failureThreshold = 2, timeout = 60000)
+        public String execute() {
+            throw new RuntimeException("Simulated failure");
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.alkl1m.circuitbreaker.jfr;
+
+import com.alkl1m.circuitbreaker.annotation.CircuitBreaker;
+import com.alkl1m.circuitbreaker.aspect.CircuitBreakerAspect;
+import com.alkl1m.circuitbreaker.configuration.CircuitBreakerProperties;
+import com.alkl1m.circuitbreaker.exception.CircuitBreakerOpenException;
+import com.alkl1m.circuitbreaker.metrics.CircuitBreakerMetrics;
+import com.alkl1m.time.VirtualTime;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = CircuitBreakerEventsTest.TestConfig.class)
+@EnableAspectJAutoProxy
+class CircuitBreakerEventsTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Autowired
+    private VirtualTime time;
+
+    @Test
+    void testCircuitEvents_recordsTransitionsAndRejection(@TempDir Path tempDir) throws Exception {
+        Path dump = tempDir.resolve("circuit-breaker.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CircuitStateTransitionEvent.class);
+            recording.enable(CircuitRejectedEvent.class);
+            recording.start();
+            testService.setShouldFail(true);
+            assertThrows(IllegalStateException.class, testService::execute);
+            assertThrows(CircuitBreakerOpenException.class, testService::execute);
+            testService.setShouldFail(false);
+            time.advance(Duration.ofMillis(1001));
+            testService.execute();
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        List<String> transitions = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.alkl1m.circuitbreaker.StateTransition"))
+                .map(e -> e.getString("from") + "->" + e.getString("to"))
+                .toList();
+        List<RecordedEvent> rejections = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.alkl1m.circuitbreaker.Rejected"))
+                .toList();
+
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions);
+        assertEquals(1, rejections.size());
+        assertTrue(rejections.get(0).getString("method").endsWith("#execute"));
+    }
+
+    @Configuration
+    static class TestConfig {
+
+        @Bean
+        public VirtualTime virtualTime() {
+            return new VirtualTime();
+        }
+
+        @Bean
+        public CircuitBreakerAspect circuitBreakerAspect(VirtualTime virtualTime) {
+            return new CircuitBreakerAspect(new CircuitBreakerProperties(), CircuitBreakerMetrics.NOOP, virtualTime);
+        }
+
+        @Bean
+        public TestService testService() {
+            return new TestService();
+        }
+
+    }
+
+    static class TestService {
+        private boolean shouldFail;
+
+        @CircuitBreaker(failureThreshold = 1, timeout = 1000)
+        public String execute() {
+            if (shouldFail) {
+                throw new IllegalStateException("Simulated failure");
+            }
+            return "Success";
+        }
+
+        public void setShouldFail(boolean shouldFail) {
+            this.shouldFail = shouldFail;
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.alkl1m.circuitbreaker.state;
+
+import com.alkl1m.circuitbreaker.enums.CircuitState;
+import com.alkl1m.time.VirtualTime;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeyedCircuitBreakerStatesTest {
+
+    @Test
+    void testGetOrCreate_returnsSameStateForSameKey() {
+        KeyedCircuitBreakerStates states = new KeyedCircuitBreakerStates(10);
+
+        CircuitBreakerState first = states.getOrCreate("shard-1", () -> new CircuitBreakerState(3, 1000));
+
+        assertSame(first, states.getOrCreate("shard-1", () -> new CircuitBreakerState(3, 1000)));
+    }
+
+    @Test
+    void testGetOrCreate_whenLimitExceeded_evictsIdleStatesFirst() {
+        KeyedCircuitBreakerStates states = new KeyedCircuitBreakerStates(10);
+        CircuitBreakerState open = states.getOrCreate("dead", () -> new CircuitBreakerState(1, 1000));
+        open.recordFailure();
+        open.setState(CircuitState.OPEN);
+
+        for (int i = 0; i < 20; i++) {
+            states.getOrCreate("shard-" + i, () -> new CircuitBreakerState(3, 1000));
+        }
+
+        assertTrue(states.getStates().size() <= 10);
+        assertSame(open, states.getStates().get("dead"));
+        assertTrue(states.getStates().containsKey("shard-19"));
+    }
+
+    @Test
+    void testGetOrCreate_whenOnlyFailingStatesLeft_evictsOldestFailure() {
+        KeyedCircuitBreakerStates states = new KeyedCircuitBreakerStates(10);
+        for (int i = 0; i < 10; i++) {
+            CircuitBreakerState state = states.getOrCreate("shard-" + i, () -> new CircuitBreakerState(3, 1000));
+            state.recordFailure();
+            state.setLastFailureTime(1000 + i);
+        }
+
+        CircuitBreakerState created = states.getOrCreate("shard-new", () -> new CircuitBreakerState(3, 1000));
+
+        assertEquals(9, states.getStates().size());
+        assertSame(created, states.getStates().get("shard-new"));
+        assertFalse(states.getStates().containsKey("shard-0"));
+        assertTrue(states.getStates().containsKey("shard-9"));
+    }
+
+    @Test
+    void testGetOrCreate_neverEvictsOpenStateWithinTimeout() {
+        VirtualTime time = new VirtualTime();
+        KeyedCircuitBreakerStates states = new KeyedCircuitBreakerStates(10);
+        CircuitBreakerState open = states.getOrCreate("dead", () -> new CircuitBreakerState(1, 1000, time));
+        open.recordFailure();
+        open.setState(CircuitState.OPEN);
+        for (int i = 0; i < 10; i++) {
+            time.advance(Duration.ofMillis(1));
+            states.getOrCreate("shard-" + i, () -> new CircuitBreakerState(3, 1000, time)).recordFailure();
+        }
+
+        assertSame(open, states.getStates().get("dead"));
+        assertFalse(states.getStates().containsKey("shard-0"));
+        assertFalse(states.getStates().containsKey("shard-1"));
+
+        time.advance(Duration.ofMillis(1001));
+        for (int i = 0; i < 2; i++) {
+            states.getOrCreate("shard-new-" + i, () -> new CircuitBreakerState(3, 1000, time)).recordFailure();
+        }
+
+        assertFalse(states.getStates().containsKey("dead"));
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.alkl1m.fallback.aot;
+
+import com.alkl1m.fallback.annotation.Fallback;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * AOT-процессор, регистрирующий резервные методы бинов для вызова через reflection.
+ * <p>
+ * {@link com.alkl1m.fallback.aspect.FallbackAspect} находит резервный метод через
+ * {@link Class#getMethod(String, Class[])} и вызывает его через {@link Method#invoke(Object, Object...)}.
+ * В native-образе это работает только для методов, заранее известных на этапе сборки,
+ * поэтому процессор обходит методы бина, помеченные {@link Fallback}, и регистрирует
+ * соответствующие резервные методы.
+ *
+ * @author AlKl1M
+ */
+public class FallbackBeanRegistrationAotProcessor implements BeanRegistrationAotProcessor {
+
+    @Override
+    public BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+        Class<?> beanClass = ClassUtils.getUserClass(registeredBean.getBeanClass());
+        Set<Method> fallbackMethods = new LinkedHashSet<>();
+
+        ReflectionUtils.doWithMethods(beanClass, method -> {
+            Fallback fallback = method.getAnnotation(Fallback.class);
+            if (fallback != null) {
+                Method fallbackMethod = ClassUtils.getMethodIfAvailable(beanClass,
+                        fallback.fallbackMethod(), method.getParameterTypes());
+                if (fallbackMethod != null) {
+                    fallbackMethods.add(fallbackMethod);
+                }
+            }
+        });
+
+        if (fallbackMethods.isEmpty()) {
+            return null;
+        }
+        return (generationContext, beanRegistrationCode) -> {
+            ReflectionHints reflection = generationContext.getRuntimeHints().reflection();
+            fallbackMethods.forEach(method -> reflection.registerMethod(method, ExecutableMode.INVOKE));
+        };
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.alkl1m.fallback.aot;
+
+import com.alkl1m.fallback.annotation.Fallback;
+import com.alkl1m.fallback.aspect.FallbackAspect;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Подсказки native-image для {@link Fallback} и {@link FallbackAspect}. Сами резервные методы
+ * регистрирует {@link FallbackBeanRegistrationAotProcessor}.
+ *
+ * @author AlKl1M
+ */
+public class FallbackRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(Fallback.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(FallbackAspect.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS);
+    }
+
+}
@@ -1,14 +1,20 @@
 package com.alkl1m.fallback.aspect;
 
 import com.alkl1m.fallback.annotation.Fallback;
+import com.alkl1m.fallback.jfr.FallbackInvokedEvent;
+import com.alkl1m.fallback.metrics.FallbackMetrics;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.stereotype.Component;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Аспект, реализующий паттерн Fallback с использованием Spring AOP.
@@ -24,13 +30,42 @@ import java.lang.reflect.Method;
  *   <li>Должен возвращать значение совместимого типа с исходным методом</li>
  * </ul>
  *
+ * <p>Найденный резервный метод кэшируется по паре (метод, класс цели), поэтому поиск через reflection
+ * выполняется один раз, а не при каждой ошибке.</p>
+ *
  * @author AlKl1M
  */
 @Aspect
-@Component
+@Order(FallbackAspect.ORDER)
 public class FallbackAspect {
 
-    @Pointcut("@annotation(fallback)")
+    /**
+     * Порядок аспекта: внешний из аспектов отказоустойчивости, поэтому резервный метод вызывается,
+     * только когда повторы, Circuit Breaker и bulkhead уже не помогли.
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 500;
+
+    private final Map<MethodClassKey, Method> fallbackMethods = new ConcurrentHashMap<>();
+    private volatile FallbackMetrics metrics;
+
+    public FallbackAspect() {
+        this(FallbackMetrics.NOOP);
+    }
+
+    public FallbackAspect(FallbackMetrics metrics) {
+        configure(metrics);
+    }
+
+    /**
+     * Вызывается из {@code FallbackConfiguration} для вплетенного экземпляра в режиме {@code aspectj}.
+     *
+     * @param metrics метрики
+     */
+    public void configure(FallbackMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Pointcut("execution(* *(..)) && @annotation(fallback)")
     public void retryPointcut(Fallback fallback) {
     }
 
@@ -44,8 +79,9 @@ public class FallbackAspect {
      *   <li>При возникновении исключения:
      *     <ul>
      *       <li>Получение метаданных исходного метода</li>
-     *       <li>Поиск резервного метода по имени из аннотации</li>
-     *       <li>Вызов резервного метода с оригинальными аргументами</li>
+     *       <li>Поиск резервного метода по имени из аннотации (с кэшированием)</li>
+     *       <li>Вызов резервного метода с оригинальными аргументами и запись JFR-события
+     *       {@link FallbackInvokedEvent}</li>
      *     </ul>
      *   </li>
      * </ol>
@@ -57,16 +93,47 @@ public class FallbackAspect {
      */
     @Around(value = "retryPointcut(fallback)", argNames = "joinPoint, fallback")
     public Object handleFallback(ProceedingJoinPoint joinPoint, Fallback fallback) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        metrics.onCall(method);
+        long start = System.nanoTime();
         try {
             return joinPoint.proceed();
         } catch (Exception e) {
-            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
             Object target = joinPoint.getTarget();
 
-            Method fallbackMethod = target.getClass().getMethod(fallback.fallbackMethod(), method.getParameterTypes());
+            Method fallbackMethod = resolveFallbackMethod(method, target.getClass(), fallback);
+
+            metrics.onFallbackInvoked(method);
+            FallbackInvokedEvent event = new FallbackInvokedEvent();
+            event.begin();
+            try {
+                return fallbackMethod.invoke(target, joinPoint.getArgs());
+            } finally {
+                event.commit(method, fallbackMethod, e);
+            }
+        } finally {
+            metrics.onCallFinished(method, System.nanoTime() - start);
+        }
+    }
 
-            return fallbackMethod.invoke(target, joinPoint.getArgs());
+    /**
+     * Возвращает резервный метод из кэша или ищет его в классе цели.
+     *
+     * @param method      исходный метод
+     * @param targetClass класс цели
+     * @param fallback    экземпляр аннотации {@link Fallback}
+     * @return резервный метод
+     * @throws NoSuchMethodException если резервный метод с подходящей сигнатурой не найден
+     */
+    private Method resolveFallbackMethod(Method method, Class<?> targetClass, Fallback fallback)
+            throws NoSuchMethodException {
+        MethodClassKey key = new MethodClassKey(method, targetClass);
+        Method fallbackMethod = fallbackMethods.get(key);
+        if (fallbackMethod == null) {
+            fallbackMethod = targetClass.getMethod(fallback.fallbackMethod(), method.getParameterTypes());
+            fallbackMethods.putIfAbsent(key, fallbackMethod);
         }
+        return fallbackMethod;
     }
 
 }
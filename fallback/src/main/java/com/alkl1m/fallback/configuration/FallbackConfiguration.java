@@ -1,15 +1,76 @@
 package com.alkl1m.fallback.configuration;
 
+import com.alkl1m.fallback.aot.FallbackRuntimeHints;
 import com.alkl1m.fallback.aspect.FallbackAspect;
+import com.alkl1m.fallback.metrics.FallbackMetrics;
+import com.alkl1m.fallback.metrics.MicrometerFallbackMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.Aspects;
+import org.aspectj.lang.NoAspectBoundException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
+/**
+ * Класс автоконфигурации.
+ * <p>
+ * В режиме прокси ({@code resilience.aop.mode=proxy}, по умолчанию) аспект создается как Spring-бин.
+ * В режиме {@code aspectj} Spring-прокси не создаются: аспект вплетается ajc или агентом load-time weaving
+ * по {@code META-INF/aop.xml}, и его единственный экземпляр создается самим AspectJ через конструктор
+ * без аргументов. Автоконфигурация берет его из {@code Aspects.aspectOf}, передает метрики
+ * через {@code configure} и регистрирует как бин. Если аспект не вплетен, контекст не запускается.
+ * <p>
+ * Метрики публикуются, если в контексте есть {@link MeterRegistry} и не задано
+ * {@code resilience.metrics.enabled=false}. Иначе аспект использует {@link FallbackMetrics#NOOP}.
+ *
+ * @author AlKl1M
+ */
 @Configuration
+@ImportRuntimeHints(FallbackRuntimeHints.class)
 public class FallbackConfiguration {
 
     @Bean
-    public FallbackAspect fallbackAspect() {
-        return new FallbackAspect();
+    @ConditionalOnProperty(prefix = "resilience.aop", name = "mode", havingValue = "proxy", matchIfMissing = true)
+    public FallbackAspect fallbackAspect(ObjectProvider<FallbackMetrics> metrics) {
+        return new FallbackAspect(metrics.getIfAvailable(() -> FallbackMetrics.NOOP));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "resilience.aop", name = "mode", havingValue = "aspectj")
+    static class FallbackAspectJConfiguration {
+
+        @Bean
+        public FallbackAspect fallbackAspect(ObjectProvider<FallbackMetrics> metrics) {
+            FallbackAspect aspect = wovenAspect();
+            aspect.configure(metrics.getIfAvailable(() -> FallbackMetrics.NOOP));
+            return aspect;
+        }
+
+        private static FallbackAspect wovenAspect() {
+            try {
+                return Aspects.aspectOf(FallbackAspect.class);
+            } catch (NoAspectBoundException e) {
+                throw new IllegalStateException("resilience.aop.mode=aspectj, but FallbackAspect is not woven: "
+                        + "compile with ajc or start the JVM with -javaagent:aspectjweaver.jar", e);
+            }
+        }
+
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "resilience.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class FallbackMetricsConfiguration {
+
+        @Bean
+        public FallbackMetrics fallbackMetrics(ObjectProvider<MeterRegistry> registry) {
+            MeterRegistry meterRegistry = registry.getIfAvailable();
+            return meterRegistry != null ? new MicrometerFallbackMetrics(meterRegistry) : FallbackMetrics.NOOP;
+        }
+
     }
 
 }
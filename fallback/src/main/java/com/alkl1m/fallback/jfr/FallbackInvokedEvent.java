@@ -0,0 +1,56 @@
+package com.alkl1m.fallback.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.lang.reflect.Method;
+
+/**
+ * JFR-событие вызова резервного метода. Длительность события - время выполнения резервного метода.
+ * <p>
+ * Пока запись JFR не ведется, {@link #shouldCommit()} возвращает false и поля не заполняются.
+ *
+ * @author AlKl1M
+ */
+@Name("com.alkl1m.fallback.Invoked")
+@Label("Fallback Invoked")
+@Category({"Resilience", "Fallback"})
+@Description("Fallback method invoked after the original method failed")
+@StackTrace(false)
+public class FallbackInvokedEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Fallback Method")
+    String fallbackMethod;
+
+    @Label("Cause")
+    Class<?> cause;
+
+    @Label("Cause Message")
+    String causeMessage;
+
+    /**
+     * Завершает событие, если оно должно быть записано.
+     *
+     * @param method         исходный метод
+     * @param fallbackMethod резервный метод
+     * @param cause          ошибка исходного метода
+     */
+    public void commit(Method method, Method fallbackMethod, Throwable cause) {
+        end();
+        if (shouldCommit()) {
+            this.method = method.getDeclaringClass().getName() + "#" + method.getName();
+            this.fallbackMethod = fallbackMethod.getName();
+            this.cause = cause.getClass();
+            this.causeMessage = cause.getMessage();
+            commit();
+        }
+    }
+
+}
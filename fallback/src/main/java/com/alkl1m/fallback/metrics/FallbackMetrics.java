@@ -0,0 +1,43 @@
+package com.alkl1m.fallback.metrics;
+
+import java.lang.reflect.Method;
+
+/**
+ * Точка сбора метрик {@link com.alkl1m.fallback.aspect.FallbackAspect}.
+ * <p>
+ * Реализация по умолчанию {@link #NOOP} ничего не делает: вызовы пустых методов
+ * встраиваются JIT-компилятором и не стоят ничего, когда метрики выключены.
+ *
+ * @author AlKl1M
+ */
+public interface FallbackMetrics {
+
+    FallbackMetrics NOOP = new FallbackMetrics() {
+    };
+
+    /**
+     * Вызывается на каждый вызов метода, помеченного {@link com.alkl1m.fallback.annotation.Fallback}.
+     *
+     * @param method вызванный метод
+     */
+    default void onCall(Method method) {
+    }
+
+    /**
+     * Вызывается перед вызовом резервного метода.
+     *
+     * @param method исходный метод
+     */
+    default void onFallbackInvoked(Method method) {
+    }
+
+    /**
+     * Вызывается по завершении вызова, в том числе резервного метода.
+     *
+     * @param method        исходный метод
+     * @param durationNanos длительность вызова вместе с резервным методом
+     */
+    default void onCallFinished(Method method, long durationNanos) {
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.alkl1m.fallback.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Метрики фоллбека, публикуемые через Micrometer.
+ * <p>
+ * На горячем пути только инкременты {@link LongAdder}, запись в {@link Timer} и чтение
+ * из {@link ConcurrentHashMap} по ключу {@link Method}, без аллокаций. Метры регистрируются
+ * один раз на метод:
+ * <ul>
+ *   <li>{@code resilience.fallback.calls{method, signature}} - все вызовы</li>
+ *   <li>{@code resilience.fallback.invocations{method, signature}} - вызовы резервного метода</li>
+ *   <li>{@code resilience.fallback.duration{method, signature}} - длительность вызова вместе с резервным методом</li>
+ * </ul>
+ *
+ * @author AlKl1M
+ */
+public class MicrometerFallbackMetrics implements FallbackMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public MicrometerFallbackMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onCall(Method method) {
+        meters(method).calls.increment();
+    }
+
+    @Override
+    public void onFallbackInvoked(Method method) {
+        meters(method).fallbackInvocations.increment();
+    }
+
+    @Override
+    public void onCallFinished(Method method, long durationNanos) {
+        meters(method).duration.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private MethodMeters meters(Method method) {
+        MethodMeters methodMeters = meters.get(method);
+        if (methodMeters == null) {
+            methodMeters = meters.computeIfAbsent(method, this::register);
+        }
+        return methodMeters;
+    }
+
+    private MethodMeters register(Method method) {
+        Tags tags = tags(method);
+        MethodMeters methodMeters = new MethodMeters(Timer.builder("resilience.fallback.duration")
+                .tags(tags)
+                .description("Call duration including the fallback method")
+                .register(registry));
+        FunctionCounter.builder("resilience.fallback.calls", methodMeters.calls, LongAdder::sum)
+                .tags(tags)
+                .description("Calls of methods guarded by a fallback")
+                .register(registry);
+        FunctionCounter.builder("resilience.fallback.invocations", methodMeters.fallbackInvocations, LongAdder::sum)
+                .tags(tags)
+                .description("Fallback method invocations")
+                .register(registry);
+        return methodMeters;
+    }
+
+    private static Tags tags(Method method) {
+        return Tags.of("method", method.getDeclaringClass().getName() + "#" + method.getName(),
+                "signature", method.toGenericString());
+    }
+
+    private static final class MethodMeters {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder fallbackInvocations = new LongAdder();
+        private final Timer duration;
+
+        private MethodMeters(Timer duration) {
+            this.duration = duration;
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.alkl1m.fallback.aot;
+
+import com.alkl1m.fallback.annotation.Fallback;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FallbackBeanRegistrationAotProcessorTest {
+
+    private final FallbackBeanRegistrationAotProcessor processor = new FallbackBeanRegistrationAotProcessor();
+
+    @Test
+    void testProcessAheadOfTime_withFallbackMethod_registersInvocationHint() {
+        BeanRegistrationAotContribution contribution = processor.processAheadOfTime(registeredBean(TestService.class));
+        assertNotNull(contribution);
+
+        RuntimeHints hints = new RuntimeHints();
+        GenerationContext generationContext = mock(GenerationContext.class);
+        when(generationContext.getRuntimeHints()).thenReturn(hints);
+        contribution.applyTo(generationContext, null);
+
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(TestService.class, "fallback").invoke().test(hints));
+    }
+
+    @Test
+    void testProcessAheadOfTime_withoutFallbackMethods_returnsNull() {
+        assertNull(processor.processAheadOfTime(registeredBean(String.class)));
+    }
+
+    private RegisteredBean registeredBean(Class<?> beanClass) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("bean", new RootBeanDefinition(beanClass));
+        return RegisteredBean.of(beanFactory, "bean");
+    }
+
+    static class TestService {
+
+        @Fallback(fallbackMethod = "fallback")
+        public String doSomething(String argument) {
+            throw new RuntimeException("Simulated error");
+        }
+
+        public String fallback(String argument) {
+            return "fallback result";
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.alkl1m.fallback.aspect;
+
+import com.alkl1m.fallback.annotation.Fallback;
+import com.alkl1m.fallback.configuration.FallbackConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.Aspects;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Запускается отдельным прогоном surefire с агентом aspectjweaver (см. pom.xml).
+ */
+@SpringBootTest(classes = FallbackAspectWovenTest.TestConfig.class, properties = "resilience.aop.mode=aspectj")
+class FallbackAspectWovenTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Autowired
+    private FallbackAspect fallbackAspect;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void whenWoven_thenFallbackCalledAndMetricsPublished() {
+        assertFalse(AopUtils.isAopProxy(testService));
+        assertSame(Aspects.aspectOf(FallbackAspect.class), fallbackAspect);
+
+        assertEquals("fallback result", testService.doSomething());
+
+        assertEquals(1.0, meterRegistry.get("resilience.fallback.invocations").functionCounter().count());
+    }
+
+    @Configuration
+    @Import(FallbackConfiguration.class)
+    static class TestConfig {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public TestService testService() {
+            return new TestService();
+        }
+
+    }
+
+    static class TestService {
+
+        @Fallback(fallbackMethod = "fallback")
+        public String doSomething() {
+            throw new IllegalStateException("Simulated error");
+        }
+
+        public String fallback() {
+            return "fallback result";
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.alkl1m.fallback.jfr;
+
+import com.alkl1m.fallback.annotation.Fallback;
+import com.alkl1m.fallback.aspect.FallbackAspect;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = {FallbackAspect.class, FallbackEventsTest.TestService.class})
+@EnableAspectJAutoProxy
+class FallbackEventsTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Test
+    void testFallbackEvents_recordsOnlyInvokedFallback(@TempDir Path tempDir) throws Exception {
+        Path dump = tempDir.resolve("fallback.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(FallbackInvokedEvent.class);
+            recording.start();
+            testService.succeed();
+            testService.fail();
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> invocations = RecordingFile.readAllEvents(dump).stream()
+                .filter(e -> e.getEventType().getName().equals("com.alkl1m.fallback.Invoked"))
+                .toList();
+
+        assertEquals(1, invocations.size());
+        assertTrue(invocations.get(0).getString("method").endsWith("#fail"));
+        assertEquals("fallback", invocations.get(0).getString("fallbackMethod"));
+        assertEquals(IllegalStateException.class.getName(), invocations.get(0).getClass("cause").getName());
+        assertEquals("Simulated error", invocations.get(0).getString("causeMessage"));
+    }
+
+    @Service
+    public static class TestService {
+
+        @Fallback(fallbackMethod = "fallback")
+        public String succeed() {
+            return "ok";
+        }
+
+        @Fallback(fallbackMethod = "fallback")
+        public String fail() {
+            throw new IllegalStateException("Simulated error");
+        }
+
+        public String fallback() {
+            return "fallback";
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.alkl1m.loadbalancer.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Аннотация для клиентской балансировки вызовов между репликами.
+ * <p>
+ * На каждом вызове аспект выбирает одну из конечных точек и подставляет ее в аргумент,
+ * помеченный {@link TargetEndpoint}. Список конечных точек задается в {@link #endpoints()}
+ * или во внешней конфигурации ({@code resilience.load-balancer.<name>.endpoints}).
+ *
+ * @author AlKl1M
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface LoadBalanced {
+
+    /**
+     * Имя группы реплик. Методы с одинаковым именем делят состояние конечных точек.
+     *
+     * @return имя группы
+     */
+    String name();
+
+    /**
+     * Конечные точки по умолчанию, если во внешней конфигурации ничего не задано.
+     *
+     * @return адреса реплик
+     */
+    String[] endpoints() default {};
+
+    /**
+     * Максимальное количество одновременных вызовов одной конечной точки.
+     *
+     * @return лимит (по умолчанию 100)
+     */
+    int maxConcurrentCallsPerEndpoint() default 100;
+
+    /**
+     * Количество ошибок подряд до размыкания цепи конечной точки.
+     *
+     * @return порог ошибок (по умолчанию 3)
+     */
+    int failureThreshold() default 3;
+
+    /**
+     * Время до пробного вызова разомкнутой конечной точки в миллисекундах.
+     *
+     * @return таймаут (по умолчанию 5000)
+     */
+    long timeout() default 5000;
+
+    /**
+     * Время исключения медленной конечной точки из выбора в миллисекундах.
+     *
+     * @return время исключения (по умолчанию 30000)
+     */
+    long ejectionTime() default 30000;
+
+    /**
+     * Во сколько раз средняя задержка конечной точки должна превышать среднюю задержку
+     * остальных, чтобы она была временно исключена.
+     *
+     * @return множитель (по умолчанию 3)
+     */
+    double outlierFactor() default 3.0;
+
+    /**
+     * Постоянная времени затухания EWMA задержки в миллисекундах.
+     *
+     * @return постоянная времени (по умолчанию 10000)
+     */
+    long latencyDecay() default 10000;
+
+    /**
+     * Задержка в миллисекундах, которую неуспешный вызов вносит в EWMA конечной точки, если он
+     * завершился быстрее. Без штрафа точка, которая сразу отвечает ошибкой, выглядела бы самой быстрой.
+     *
+     * @return штраф за ошибку (по умолчанию 1000)
+     */
+    long failurePenalty() default 1000;
+
+}
@@ -0,0 +1,17 @@
+package com.alkl1m.loadbalancer.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Отмечает аргумент метода с {@link LoadBalanced}, в который подставляется выбранная
+ * конечная точка. Тип аргумента - {@link String} или {@link java.net.URI}.
+ *
+ * @author AlKl1M
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface TargetEndpoint {
+}
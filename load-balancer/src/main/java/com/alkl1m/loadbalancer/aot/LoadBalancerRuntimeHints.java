@@ -0,0 +1,26 @@
+package com.alkl1m.loadbalancer.aot;
+
+import com.alkl1m.loadbalancer.annotation.LoadBalanced;
+import com.alkl1m.loadbalancer.annotation.TargetEndpoint;
+import com.alkl1m.loadbalancer.aspect.LoadBalancerAspect;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Подсказки native-image: помимо {@link LoadBalanced} и {@link LoadBalancerAspect}, аспект ищет
+ * {@link TargetEndpoint} на параметрах метода, поэтому эта аннотация тоже регистрируется.
+ *
+ * @author AlKl1M
+ */
+public class LoadBalancerRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(LoadBalanced.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(TargetEndpoint.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(LoadBalancerAspect.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS);
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.alkl1m.loadbalancer.aspect;
+
+import com.alkl1m.loadbalancer.annotation.LoadBalanced;
+import com.alkl1m.loadbalancer.annotation.TargetEndpoint;
+import com.alkl1m.loadbalancer.configuration.LoadBalancerProperties;
+import com.alkl1m.loadbalancer.exception.NoAvailableEndpointException;
+import com.alkl1m.loadbalancer.state.EndpointState;
+import com.alkl1m.loadbalancer.state.LoadBalancerState;
+import com.alkl1m.time.Ticker;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Аспект клиентской балансировки между репликами для методов с аннотацией {@link LoadBalanced}.
+ * <p>
+ * Выбор реплики учитывает состояние, которое раньше только блокировало вызовы:
+ * <ul>
+ *   <li>число вызовов в полете - по занятым разрешениям bulkhead конечной точки</li>
+ *   <li>EWMA задержки конечной точки</li>
+ *   <li>цепь Circuit Breaker конечной точки - разомкнутые реплики пропускаются</li>
+ *   <li>временное исключение реплик, чья задержка выбивается из группы</li>
+ * </ul>
+ *
+ * @author AlKl1M
+ * @see LoadBalancerState
+ */
+@Aspect
+@Order(LoadBalancerAspect.ORDER)
+public class LoadBalancerAspect {
+
+    /**
+     * Порядок аспекта: внутренний из аспектов отказоустойчивости (fallback, retry, Circuit Breaker,
+     * bulkhead), поэтому каждая попытка повтора заново выбирает реплику. Транзакции с порядком
+     * по умолчанию ({@link Ordered#LOWEST_PRECEDENCE}) выполняются внутри всех этих аспектов.
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private final Map<String, LoadBalancerState> balancers = new ConcurrentHashMap<>();
+    private final Map<Method, Integer> targetParameters = new ConcurrentHashMap<>();
+    private volatile LoadBalancerProperties properties;
+    private volatile Ticker ticker;
+
+    public LoadBalancerAspect() {
+        this(new LoadBalancerProperties(), Ticker.SYSTEM);
+    }
+
+    public LoadBalancerAspect(LoadBalancerProperties properties, Ticker ticker) {
+        configure(properties, ticker);
+    }
+
+    /**
+     * Вызывается из {@code LoadBalancerConfiguration} для вплетенного экземпляра в режиме {@code aspectj}.
+     *
+     * @param properties именованные политики
+     * @param ticker источник времени
+     */
+    public void configure(LoadBalancerProperties properties, Ticker ticker) {
+        this.properties = properties;
+        this.ticker = ticker;
+    }
+
+    @Pointcut("execution(* *(..)) && @annotation(loadBalanced)")
+    public void loadBalancedPointcut(LoadBalanced loadBalanced) {
+    }
+
+    /**
+     * Выбирает реплику и вызывает метод с ней.
+     *
+     * <p>Алгоритм работы:
+     * <ol>
+     *   <li>Определение аргумента, помеченного {@link TargetEndpoint} (кэшируется по методу)</li>
+     *   <li>Обновление списка реплик из {@link LoadBalancerProperties} или аннотации</li>
+     *   <li>Выбор реплики по power-of-two-choices среди доступных и захват ее разрешения без ожидания;
+     *   если разрешение успел занять другой поток, выбор повторяется среди оставшихся</li>
+     *   <li>Вызов метода с подставленной репликой</li>
+     *   <li>Учет задержки и результата в состоянии реплики, проверка на выброс; ошибка учитывается
+     *   с задержкой не меньше {@link LoadBalanced#failurePenalty()}</li>
+     *   <li>Освобождение разрешения в блоке finally</li>
+     * </ol>
+     *
+     * @param joinPoint    точка соединения (перехваченный метод)
+     * @param loadBalanced аннотация с параметрами группы
+     * @return результат выполнения оригинального метода
+     * @throws Throwable                    исключения из оригинального метода
+     * @throws NoAvailableEndpointException если все реплики недоступны
+     */
+    @Around(value = "loadBalancedPointcut(loadBalanced)", argNames = "joinPoint, loadBalanced")
+    public Object balance(ProceedingJoinPoint joinPoint, LoadBalanced loadBalanced) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        int targetIndex = targetParameters.computeIfAbsent(method, this::findTargetParameter);
+        LoadBalancerState balancer = balancers.computeIfAbsent(loadBalanced.name(), name -> new LoadBalancerState(
+                name,
+                loadBalanced.maxConcurrentCallsPerEndpoint(),
+                loadBalanced.failureThreshold(),
+                loadBalanced.timeout(),
+                TimeUnit.MILLISECONDS.toNanos(loadBalanced.ejectionTime()),
+                loadBalanced.outlierFactor(),
+                TimeUnit.MILLISECONDS.toNanos(loadBalanced.latencyDecay()),
+                ticker
+        ));
+        balancer.updateEndpoints(endpoints(loadBalanced));
+
+        EndpointState endpoint = balancer.acquire(ticker.nanoTime());
+        if (endpoint == null) {
+            throw new NoAvailableEndpointException("No available endpoint for " + loadBalanced.name());
+        }
+        try {
+            Object[] args = joinPoint.getArgs().clone();
+            args[targetIndex] = method.getParameterTypes()[targetIndex] == URI.class
+                    ? URI.create(endpoint.getEndpoint())
+                    : endpoint.getEndpoint();
+            long start = ticker.nanoTime();
+            try {
+                Object result = joinPoint.proceed(args);
+                long end = ticker.nanoTime();
+                endpoint.onSuccess();
+                endpoint.recordLatency(end - start, end);
+                balancer.checkOutlier(endpoint, end);
+                return result;
+            } catch (Throwable e) {
+                long end = ticker.nanoTime();
+                endpoint.onFailure();
+                endpoint.recordLatency(Math.max(end - start,
+                        TimeUnit.MILLISECONDS.toNanos(loadBalanced.failurePenalty())), end);
+                throw e;
+            }
+        } finally {
+            endpoint.release();
+        }
+    }
+
+    /**
+     * Текущие группы реплик по имени, только для чтения.
+     *
+     * @return отображение имени группы на состояние
+     */
+    public Map<String, LoadBalancerState> getBalancers() {
+        return Collections.unmodifiableMap(balancers);
+    }
+
+    private List<String> endpoints(LoadBalanced loadBalanced) {
+        LoadBalancerProperties.Policy policy = properties.policy(loadBalanced.name());
+        return policy != null && policy.getEndpoints() != null
+                ? policy.getEndpoints()
+                : List.of(loadBalanced.endpoints());
+    }
+
+    private int findTargetParameter(Method method) {
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isAnnotationPresent(TargetEndpoint.class)) {
+                Class<?> type = parameters[i].getType();
+                if (type != String.class && type != URI.class) {
+                    throw new IllegalStateException("@TargetEndpoint parameter must be String or URI: " + method);
+                }
+                return i;
+            }
+        }
+        throw new IllegalStateException("No @TargetEndpoint parameter on @LoadBalanced method " + method);
+    }
+
+}
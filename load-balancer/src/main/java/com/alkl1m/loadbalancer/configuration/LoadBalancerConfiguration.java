@@ -0,0 +1,65 @@
+package com.alkl1m.loadbalancer.configuration;
+
+import com.alkl1m.loadbalancer.aot.LoadBalancerRuntimeHints;
+import com.alkl1m.loadbalancer.aspect.LoadBalancerAspect;
+import com.alkl1m.time.Ticker;
+import org.aspectj.lang.Aspects;
+import org.aspectj.lang.NoAspectBoundException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Класс автоконфигурации.
+ * <p>
+ * В режиме прокси ({@code resilience.aop.mode=proxy}, по умолчанию) аспект создается как Spring-бин.
+ * В режиме {@code aspectj} Spring-прокси не создаются: аспект вплетается ajc или агентом load-time weaving
+ * по {@code META-INF/aop.xml}, и его единственный экземпляр создается самим AspectJ через конструктор
+ * без аргументов. Автоконфигурация берет его из {@code Aspects.aspectOf}, передает группы
+ * конечных точек и {@link Ticker} через {@code configure} и регистрирует как бин.
+ * Если аспект не вплетен, контекст не запускается.
+ * <p>
+ * Конечные точки групп ({@code resilience.load-balancer.<name>.endpoints}) задаются в {@link LoadBalancerProperties}.
+ * <p>
+ * Задержки, таймауты цепей и исключения реплик отсчитываются по бину {@link Ticker}, если он объявлен,
+ * иначе по {@link Ticker#SYSTEM}.
+ *
+ * @author AlKl1M
+ */
+@Configuration
+@EnableConfigurationProperties(LoadBalancerProperties.class)
+@ImportRuntimeHints(LoadBalancerRuntimeHints.class)
+public class LoadBalancerConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "resilience.aop", name = "mode", havingValue = "proxy", matchIfMissing = true)
+    public LoadBalancerAspect loadBalancerAspect(LoadBalancerProperties properties, ObjectProvider<Ticker> ticker) {
+        return new LoadBalancerAspect(properties, ticker.getIfAvailable(() -> Ticker.SYSTEM));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "resilience.aop", name = "mode", havingValue = "aspectj")
+    static class LoadBalancerAspectJConfiguration {
+
+        @Bean
+        public LoadBalancerAspect loadBalancerAspect(LoadBalancerProperties properties, ObjectProvider<Ticker> ticker) {
+            LoadBalancerAspect aspect = wovenAspect();
+            aspect.configure(properties, ticker.getIfAvailable(() -> Ticker.SYSTEM));
+            return aspect;
+        }
+
+        private static LoadBalancerAspect wovenAspect() {
+            try {
+                return Aspects.aspectOf(LoadBalancerAspect.class);
+            } catch (NoAspectBoundException e) {
+                throw new IllegalStateException("resilience.aop.mode=aspectj, but LoadBalancerAspect is not woven: "
+                        + "compile with ajc or start the JVM with -javaagent:aspectjweaver.jar", e);
+            }
+        }
+
+    }
+
+}
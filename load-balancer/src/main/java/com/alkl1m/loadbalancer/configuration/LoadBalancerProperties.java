@@ -0,0 +1,62 @@
+package com.alkl1m.loadbalancer.configuration;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Конечные точки групп реплик, переопределяющие значения из аннотации
+ * {@link com.alkl1m.loadbalancer.annotation.LoadBalanced}.
+ * <pre>
+ * resilience.load-balancer.inventory.endpoints=http://inventory-1:8080,http://inventory-2:8080
+ * </pre>
+ * Списки реплик неизменяемы, при привязке свойств заменяется все отображение целиком, поэтому аспект,
+ * читающий список на каждом вызове, всегда видит согласованный набор значений.
+ * <p>
+ * Сама библиотека свойства не перепривязывает. Изменение на лету требует внешнего механизма,
+ * например {@code ConfigurationPropertiesRebinder} из Spring Cloud Context
+ * ({@code /actuator/refresh}), тогда добавление и удаление реплик действует со следующего вызова,
+ * а состояние оставшихся реплик сохраняется. Если из конфигурации удален весь раздел
+ * {@code resilience.load-balancer}, привязка его не затрагивает и прежние списки остаются в силе.
+ *
+ * @author AlKl1M
+ */
+@ConfigurationProperties("resilience")
+public class LoadBalancerProperties {
+
+    private volatile Map<String, Policy> loadBalancer = Map.of();
+
+    /**
+     * Возвращает политику по имени.
+     *
+     * @param name имя из аннотации
+     * @return политика или null, если для имени ничего не задано
+     */
+    public Policy policy(String name) {
+        return loadBalancer.get(name);
+    }
+
+    /**
+     * Заменяет набор списков реплик целиком.
+     *
+     * @param loadBalancer реплики по имени
+     */
+    public void setLoadBalancer(Map<String, Policy> loadBalancer) {
+        this.loadBalancer = Map.copyOf(loadBalancer);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Policy {
+
+        /**
+         * Адреса реплик.
+         */
+        private final List<String> endpoints;
+
+    }
+
+}
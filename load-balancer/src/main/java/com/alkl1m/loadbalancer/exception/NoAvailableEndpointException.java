@@ -0,0 +1,9 @@
+package com.alkl1m.loadbalancer.exception;
+
+public class NoAvailableEndpointException extends RuntimeException {
+
+    public NoAvailableEndpointException(String message) {
+        super(message);
+    }
+
+}
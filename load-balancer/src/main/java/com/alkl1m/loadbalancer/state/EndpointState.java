@@ -0,0 +1,180 @@
+package com.alkl1m.loadbalancer.state;
+
+import com.alkl1m.bulkhead.state.BulkheadState;
+import com.alkl1m.circuitbreaker.enums.CircuitState;
+import com.alkl1m.circuitbreaker.state.CircuitBreakerState;
+import com.alkl1m.time.Ticker;
+import lombok.Getter;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Состояние одной конечной точки в группе реплик.
+ * <p>
+ * Объединяет:
+ * <ul>
+ *   <li>{@link BulkheadState} - разрешения на вызов, занятые разрешения дают число вызовов в полете</li>
+ *   <li>{@link CircuitBreakerState} - цепь конечной точки: разомкнутая точка не выбирается, а после таймаута
+ *   пропускает один пробный вызов, и пока он выполняется (HALF_OPEN), точка тоже не выбирается</li>
+ *   <li>peak-EWMA задержки: рост задержки учитывается сразу, снижение - с затуханием по времени,
+ *   в том числе без новых вызовов, чтобы штраф за ошибку или медленный ответ не исключал точку навсегда</li>
+ *   <li>момент окончания временного исключения медленной точки</li>
+ * </ul>
+ *
+ * @author AlKl1M
+ */
+@Getter
+public class EndpointState {
+
+    private final String endpoint;
+    private final BulkheadState bulkhead;
+    private final CircuitBreakerState circuit;
+    private final long latencyDecayNanos;
+    private long ewmaNanos;
+    private long lastSampleNanos;
+    private volatile long ejectedUntilNanos;
+
+    public EndpointState(String endpoint, int maxConcurrentCalls, int failureThreshold, long timeout,
+                         long latencyDecayNanos, Ticker ticker) {
+        this.endpoint = endpoint;
+        this.bulkhead = new BulkheadState(endpoint, maxConcurrentCalls);
+        this.circuit = new CircuitBreakerState(failureThreshold, timeout, ticker);
+        this.latencyDecayNanos = latencyDecayNanos;
+        this.ejectedUntilNanos = ticker.nanoTime();
+    }
+
+    /**
+     * Проверяет, можно ли выбрать конечную точку.
+     *
+     * @param nowNanos текущее время по {@link Ticker#nanoTime()}
+     * @return true если точка не исключена, есть свободные разрешения и цепь замкнута
+     * (или пора сделать пробный вызов, и другой пробный вызов не выполняется)
+     */
+    public boolean isAvailable(long nowNanos) {
+        if (isEjected(nowNanos)) {
+            return false;
+        }
+        if (bulkhead.getSemaphore().availablePermits() <= 0) {
+            return false;
+        }
+        synchronized (circuit) {
+            return switch (circuit.getState()) {
+                case CLOSED -> true;
+                case OPEN -> circuit.shouldTryReset();
+                case HALF_OPEN -> false;
+            };
+        }
+    }
+
+    /**
+     * Захватывает разрешение на вызов без ожидания.
+     * <p>
+     * Если цепь разомкнута и пора сделать пробный вызов, переводит ее в HALF_OPEN: переход под
+     * монитором цепи выполняет только один поток, и до результата пробного вызова остальные
+     * получают отказ.
+     *
+     * @return true если разрешение захвачено; его нужно вернуть через {@link #release()}
+     */
+    public boolean tryAcquire() {
+        Semaphore semaphore = bulkhead.getSemaphore();
+        if (!semaphore.tryAcquire()) {
+            return false;
+        }
+        synchronized (circuit) {
+            CircuitState state = circuit.getState();
+            if (state == CircuitState.CLOSED) {
+                return true;
+            }
+            if (state == CircuitState.OPEN && circuit.shouldTryReset()) {
+                circuit.setState(CircuitState.HALF_OPEN);
+                return true;
+            }
+        }
+        semaphore.release();
+        return false;
+    }
+
+    /**
+     * Возвращает разрешение, захваченное {@link #tryAcquire()}.
+     */
+    public void release() {
+        bulkhead.getSemaphore().release();
+    }
+
+    /**
+     * Оценка стоимости вызова: задержка, умноженная на очередь вызовов в полете.
+     *
+     * @param nowNanos текущее время по {@link Ticker#nanoTime()}
+     * @return стоимость, меньше - лучше
+     */
+    public long cost(long nowNanos) {
+        return (getEwmaNanos(nowNanos) + 1) * (bulkhead.getActiveCalls() + 1);
+    }
+
+    public synchronized long getEwmaNanos() {
+        return ewmaNanos;
+    }
+
+    /**
+     * EWMA задержки, затухающая к нулю со времени последнего вызова.
+     *
+     * @param nowNanos текущее время по {@link Ticker#nanoTime()}
+     * @return задержка в наносекундах
+     */
+    public synchronized long getEwmaNanos(long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - lastSampleNanos);
+        return (long) (ewmaNanos * Math.exp(-(double) elapsed / latencyDecayNanos));
+    }
+
+    /**
+     * Учитывает задержку вызова. Для неуспешного вызова передается задержка не меньше штрафа за ошибку.
+     *
+     * @param latencyNanos задержка вызова
+     * @param nowNanos     время окончания вызова
+     */
+    public synchronized void recordLatency(long latencyNanos, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - lastSampleNanos);
+        lastSampleNanos = nowNanos;
+        if (latencyNanos > ewmaNanos) {
+            ewmaNanos = latencyNanos;
+        } else {
+            double weight = Math.exp(-(double) elapsed / latencyDecayNanos);
+            ewmaNanos = (long) (ewmaNanos * weight + latencyNanos * (1 - weight));
+        }
+    }
+
+    /**
+     * Успешный вызов замыкает цепь.
+     */
+    public void onSuccess() {
+        synchronized (circuit) {
+            circuit.reset();
+        }
+    }
+
+    /**
+     * Ошибка вызова; при достижении порога или в HALF_OPEN цепь размыкается.
+     */
+    public void onFailure() {
+        synchronized (circuit) {
+            circuit.recordFailure();
+            if (circuit.shouldOpen() || circuit.getState() == CircuitState.HALF_OPEN) {
+                circuit.setState(CircuitState.OPEN);
+            }
+        }
+    }
+
+    /**
+     * Временно исключает конечную точку из выбора.
+     *
+     * @param untilNanos момент окончания исключения по {@link Ticker#nanoTime()}
+     */
+    public void eject(long untilNanos) {
+        ejectedUntilNanos = untilNanos;
+    }
+
+    public boolean isEjected(long nowNanos) {
+        return nowNanos - ejectedUntilNanos < 0;
+    }
+
+}
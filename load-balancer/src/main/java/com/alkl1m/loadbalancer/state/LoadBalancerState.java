@@ -0,0 +1,181 @@
+package com.alkl1m.loadbalancer.state;
+
+import com.alkl1m.time.Ticker;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Состояние группы реплик и выбор конечной точки по алгоритму power-of-two-choices.
+ * <p>
+ * На каждом вызове случайно выбираются две доступные конечные точки, и из них берется точка
+ * с меньшей стоимостью {@link EndpointState#cost(long)}. Это почти так же хорошо, как выбор лучшей
+ * из всех, но не требует сравнения стоимостей всех точек и не создает стадного эффекта, когда
+ * все клиенты одновременно бросаются на одну "лучшую" реплику.
+ * <p>
+ * Медленные точки исключаются на время: если EWMA задержки точки больше средней по остальным
+ * в {@code outlierFactor} раз. Одновременно исключается не больше половины группы.
+ *
+ * @author AlKl1M
+ */
+@Getter
+public class LoadBalancerState {
+
+    private final String name;
+    private final int maxConcurrentCallsPerEndpoint;
+    private final int failureThreshold;
+    private final long timeout;
+    private final long ejectionNanos;
+    private final double outlierFactor;
+    private final long latencyDecayNanos;
+    private final Ticker ticker;
+    private volatile List<String> endpointNames = List.of();
+    private volatile List<EndpointState> endpoints = List.of();
+
+    public LoadBalancerState(String name, int maxConcurrentCallsPerEndpoint, int failureThreshold, long timeout,
+                             long ejectionNanos, double outlierFactor, long latencyDecayNanos, Ticker ticker) {
+        this.name = name;
+        this.maxConcurrentCallsPerEndpoint = maxConcurrentCallsPerEndpoint;
+        this.failureThreshold = failureThreshold;
+        this.timeout = timeout;
+        this.ejectionNanos = ejectionNanos;
+        this.outlierFactor = outlierFactor;
+        this.latencyDecayNanos = latencyDecayNanos;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Обновляет список конечных точек, сохраняя состояние уже известных.
+     *
+     * @param names адреса реплик
+     */
+    public void updateEndpoints(List<String> names) {
+        if (names.equals(endpointNames)) {
+            return;
+        }
+        synchronized (this) {
+            if (names.equals(endpointNames)) {
+                return;
+            }
+            Map<String, EndpointState> existing = endpoints.stream()
+                    .collect(Collectors.toMap(EndpointState::getEndpoint, Function.identity()));
+            List<EndpointState> updated = new ArrayList<>(names.size());
+            for (String endpoint : names) {
+                EndpointState state = existing.get(endpoint);
+                updated.add(state != null
+                        ? state
+                        : new EndpointState(endpoint, maxConcurrentCallsPerEndpoint, failureThreshold, timeout,
+                                latencyDecayNanos, ticker));
+            }
+            endpoints = List.copyOf(updated);
+            endpointNames = List.copyOf(names);
+        }
+    }
+
+    /**
+     * Выбирает конечную точку и захватывает ее разрешение.
+     * <p>
+     * Между проверкой доступности в {@link #choose(long)} и захватом другой поток может занять последнее
+     * разрешение точки или начать ее пробный вызов. Тогда выбор повторяется без проигравшей точки,
+     * не больше раз, чем точек в группе.
+     *
+     * @param nowNanos текущее время по {@link Ticker#nanoTime()}
+     * @return конечная точка с захваченным разрешением или null, если свободных точек не осталось
+     */
+    public EndpointState acquire(long nowNanos) {
+        List<EndpointState> snapshot = endpoints;
+        List<EndpointState> lost = List.of();
+        for (int i = 0; i < snapshot.size(); i++) {
+            EndpointState endpoint = choose(snapshot, lost, nowNanos);
+            if (endpoint == null) {
+                return null;
+            }
+            if (endpoint.tryAcquire()) {
+                return endpoint;
+            }
+            if (lost.isEmpty()) {
+                lost = new ArrayList<>(2);
+            }
+            lost.add(endpoint);
+        }
+        return null;
+    }
+
+    /**
+     * Выбирает конечную точку.
+     * <p>
+     * Пара кандидатов выбирается равновероятно среди доступных точек за один проход (reservoir
+     * sampling), поэтому недоступная точка не передает свою долю вызовов соседке по списку.
+     * При равной стоимости победитель пары тоже выбирается случайно.
+     *
+     * @param nowNanos текущее время по {@link Ticker#nanoTime()}
+     * @return конечная точка или null, если доступных нет
+     */
+    public EndpointState choose(long nowNanos) {
+        return choose(endpoints, List.of(), nowNanos);
+    }
+
+    private EndpointState choose(List<EndpointState> candidates, List<EndpointState> excluded, long nowNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        EndpointState first = null;
+        EndpointState second = null;
+        int available = 0;
+        for (EndpointState endpoint : candidates) {
+            if (excluded.contains(endpoint) || !endpoint.isAvailable(nowNanos)) {
+                continue;
+            }
+            available++;
+            int slot = available <= 2 ? available - 1 : random.nextInt(available);
+            if (slot == 0) {
+                first = endpoint;
+            } else if (slot == 1) {
+                second = endpoint;
+            }
+        }
+        if (second == null) {
+            return first;
+        }
+        long firstCost = first.cost(nowNanos);
+        long secondCost = second.cost(nowNanos);
+        if (firstCost == secondCost) {
+            return random.nextBoolean() ? first : second;
+        }
+        return firstCost < secondCost ? first : second;
+    }
+
+    /**
+     * Исключает конечную точку, если ее задержка выбивается из группы.
+     *
+     * @param candidate конечная точка после очередного вызова
+     * @param nowNanos  текущее время по {@link Ticker#nanoTime()}
+     */
+    public void checkOutlier(EndpointState candidate, long nowNanos) {
+        List<EndpointState> snapshot = endpoints;
+        if (snapshot.size() < 3) {
+            return;
+        }
+        long sum = 0;
+        int measured = 0;
+        int ejected = 0;
+        for (EndpointState endpoint : snapshot) {
+            if (endpoint.isEjected(nowNanos)) {
+                ejected++;
+            } else if (endpoint != candidate && endpoint.getEwmaNanos() > 0) {
+                sum += endpoint.getEwmaNanos();
+                measured++;
+            }
+        }
+        if (measured == 0 || ejected >= snapshot.size() / 2) {
+            return;
+        }
+        if (candidate.getEwmaNanos() > outlierFactor * sum / measured) {
+            candidate.eject(nowNanos + ejectionNanos);
+        }
+    }
+
+}
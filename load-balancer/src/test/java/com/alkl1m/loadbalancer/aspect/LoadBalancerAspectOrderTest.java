@@ -0,0 +1,57 @@
+package com.alkl1m.loadbalancer.aspect;
+
+import com.alkl1m.loadbalancer.annotation.LoadBalanced;
+import com.alkl1m.loadbalancer.annotation.TargetEndpoint;
+import com.alkl1m.retry.annotation.Retryable;
+import com.alkl1m.retry.aspect.RetryAspect;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = {LoadBalancerAspectOrderTest.TestConfig.class, RetryAspect.class, LoadBalancerAspect.class})
+@EnableAspectJAutoProxy
+class LoadBalancerAspectOrderTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Test
+    void testOrder_retryWrapsLoadBalancer_soEachAttemptChoosesEndpointAgain() {
+        assertThrows(IllegalStateException.class, () -> testService.call(null));
+
+        assertEquals(List.of("dead-1", "dead-2"), testService.getCalls().stream().sorted().toList());
+    }
+
+    @Configuration
+    static class TestConfig {
+        @Bean
+        public TestService testService() {
+            return new TestService();
+        }
+    }
+
+    static class TestService {
+        private final List<String> calls = new CopyOnWriteArrayList<>();
+
+        @Retryable(maxAttempts = 2, backoff = 0)
+        @LoadBalanced(name = "dead", endpoints = {"dead-1", "dead-2"}, failureThreshold = 1, timeout = 60000)
+        public String call(@TargetEndpoint String endpoint) {
+            calls.add(endpoint);
+            throw new IllegalStateException("Connection refused: " + endpoint);
+        }
+
+        public List<String> getCalls() {
+            return calls;
+        }
+    }
+
+}
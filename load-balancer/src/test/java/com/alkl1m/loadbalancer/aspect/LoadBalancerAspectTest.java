@@ -0,0 +1,198 @@
+package com.alkl1m.loadbalancer.aspect;
+
+import com.alkl1m.loadbalancer.annotation.LoadBalanced;
+import com.alkl1m.loadbalancer.annotation.TargetEndpoint;
+import com.alkl1m.loadbalancer.exception.NoAvailableEndpointException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = {LoadBalancerAspectTest.TestConfig.class, LoadBalancerAspect.class})
+@EnableAspectJAutoProxy
+class LoadBalancerAspectTest {
+
+    @Configuration
+    static class TestConfig {
+        @Bean
+        public TestService testService() {
+            return new TestService();
+        }
+    }
+
+    /**
+     * Локальные заглушки реплик: задержка и отказ задаются по адресу.
+     */
+    static class TestService {
+        private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+        @LoadBalanced(name = "spread", endpoints = {"local-1", "local-2", "local-3"})
+        public String spread(@TargetEndpoint String endpoint) {
+            return record(endpoint);
+        }
+
+        @LoadBalanced(name = "dead", endpoints = {"dead-1", "local-1", "local-2"}, failureThreshold = 2,
+                timeout = 60000)
+        public String withDeadEndpoint(@TargetEndpoint String endpoint) {
+            record(endpoint);
+            if (endpoint.startsWith("dead")) {
+                throw new IllegalStateException("Connection refused: " + endpoint);
+            }
+            return endpoint;
+        }
+
+        @LoadBalanced(name = "slow", endpoints = {"slow-1", "local-1", "local-2"})
+        public String withSlowEndpoint(@TargetEndpoint String endpoint) throws InterruptedException {
+            record(endpoint);
+            Thread.sleep(endpoint.startsWith("slow") ? 20 : 1);
+            return endpoint;
+        }
+
+        @LoadBalanced(name = "flaky", endpoints = {"flaky-1", "local-1", "local-2"}, failureThreshold = 1000)
+        public String withFlakyEndpoint(@TargetEndpoint String endpoint) {
+            record(endpoint);
+            if (endpoint.startsWith("flaky")) {
+                throw new IllegalStateException("Service unavailable: " + endpoint);
+            }
+            return endpoint;
+        }
+
+        @LoadBalanced(name = "single-permit", endpoints = {"local-1", "local-2", "local-3", "local-4"},
+                maxConcurrentCallsPerEndpoint = 1, outlierFactor = 1000)
+        public String singlePermit(@TargetEndpoint String endpoint) {
+            return endpoint;
+        }
+
+        @LoadBalanced(name = "all-dead", endpoints = {"dead-1", "dead-2"}, failureThreshold = 1, timeout = 60000)
+        public String allDead(@TargetEndpoint String endpoint) {
+            throw new IllegalStateException("Connection refused: " + endpoint);
+        }
+
+        private String record(String endpoint) {
+            calls.computeIfAbsent(endpoint, k -> new AtomicInteger()).incrementAndGet();
+            return endpoint;
+        }
+
+        public int getCalls(String endpoint) {
+            AtomicInteger counter = calls.get(endpoint);
+            return counter != null ? counter.get() : 0;
+        }
+
+        public void reset() {
+            calls.clear();
+        }
+    }
+
+    @Autowired
+    private TestService testService;
+
+    @BeforeEach
+    void setUp() {
+        testService.reset();
+    }
+
+    @Test
+    void testLoadBalancer_ReplacesTargetArgumentWithEndpoint() {
+        for (int i = 0; i < 30; i++) {
+            assertTrue(testService.spread("ignored").startsWith("local-"));
+        }
+
+        assertEquals(0, testService.getCalls("ignored"));
+        assertEquals(30, testService.getCalls("local-1") + testService.getCalls("local-2")
+                + testService.getCalls("local-3"));
+    }
+
+    @Test
+    void testLoadBalancer_SkipsEndpointWithOpenCircuit() {
+        int failures = 0;
+        for (int i = 0; i < 50; i++) {
+            try {
+                testService.withDeadEndpoint(null);
+            } catch (IllegalStateException e) {
+                failures++;
+            }
+        }
+
+        assertTrue(testService.getCalls("dead-1") <= 2, "dead endpoint calls " + testService.getCalls("dead-1"));
+        assertEquals(testService.getCalls("dead-1"), failures);
+    }
+
+    @Test
+    void testLoadBalancer_PenalizesFastFailingEndpoint() {
+        int failures = 0;
+        for (int i = 0; i < 60; i++) {
+            try {
+                testService.withFlakyEndpoint(null);
+            } catch (IllegalStateException e) {
+                failures++;
+            }
+        }
+
+        assertTrue(failures <= 2, "flaky endpoint failures " + failures);
+    }
+
+    @Test
+    void testLoadBalancer_WhenChosenEndpointIsTakenConcurrently_ChoosesAnotherOne() throws Exception {
+        int threads = 4;
+        CyclicBarrier start = new CyclicBarrier(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    int rejected = 0;
+                    for (int call = 0; call < 20_000; call++) {
+                        try {
+                            testService.singlePermit(null);
+                        } catch (NoAvailableEndpointException e) {
+                            rejected++;
+                        }
+                    }
+                    return rejected;
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(0, result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testLoadBalancer_PrefersLowLatencyEndpoints() throws InterruptedException {
+        for (int i = 0; i < 40; i++) {
+            testService.withSlowEndpoint(null);
+        }
+
+        assertTrue(testService.getCalls("slow-1") <= 2, "slow endpoint calls " + testService.getCalls("slow-1"));
+    }
+
+    @Test
+    void testLoadBalancer_WhenAllCircuitsOpen_ThrowsNoAvailableEndpoint() {
+        assertThrows(IllegalStateException.class, () -> testService.allDead(null));
+        assertThrows(IllegalStateException.class, () -> testService.allDead(null));
+
+        assertThrows(NoAvailableEndpointException.class, () -> testService.allDead(null));
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.alkl1m.loadbalancer.aspect;
+
+import com.alkl1m.loadbalancer.annotation.LoadBalanced;
+import com.alkl1m.loadbalancer.annotation.TargetEndpoint;
+import com.alkl1m.loadbalancer.configuration.LoadBalancerConfiguration;
+import com.alkl1m.retry.annotation.Retryable;
+import com.alkl1m.retry.configuration.RetryConfiguration;
+import org.aspectj.lang.Aspects;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Запускается отдельным прогоном surefire с агентом aspectjweaver (см. pom.xml).
+ */
+@SpringBootTest(classes = LoadBalancerAspectWovenTest.TestConfig.class, properties = {
+        "resilience.aop.mode=aspectj",
+        "resilience.load-balancer.group.endpoints=configured-1"})
+class LoadBalancerAspectWovenTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Autowired
+    private LoadBalancerAspect loadBalancerAspect;
+
+    @Test
+    void whenWoven_thenEndpointsComeFromNamedPolicy() {
+        assertFalse(AopUtils.isAopProxy(testService));
+        assertSame(Aspects.aspectOf(LoadBalancerAspect.class), loadBalancerAspect);
+
+        assertEquals("configured-1", testService.call(null));
+    }
+
+    @Test
+    void whenWoven_thenRetryWrapsEndpointChoice() {
+        assertThrows(IllegalStateException.class, () -> testService.retried(null));
+
+        assertEquals(List.of("dead-1", "dead-2"), testService.getCalls().stream().sorted().toList());
+    }
+
+    @Configuration
+    @Import({LoadBalancerConfiguration.class, RetryConfiguration.class})
+    static class TestConfig {
+
+        @Bean
+        public TestService testService() {
+            return new TestService();
+        }
+
+    }
+
+    static class TestService {
+        private final List<String> calls = new CopyOnWriteArrayList<>();
+
+        @LoadBalanced(name = "group", endpoints = "annotation-1")
+        public String call(@TargetEndpoint String endpoint) {
+            return endpoint;
+        }
+
+        @Retryable(maxAttempts = 2, backoff = 0)
+        @LoadBalanced(name = "retried", endpoints = {"dead-1", "dead-2"}, failureThreshold = 1, timeout = 60000)
+        public String retried(@TargetEndpoint String endpoint) {
+            calls.add(endpoint);
+            throw new IllegalStateException("Connection refused: " + endpoint);
+        }
+
+        public List<String> getCalls() {
+            return calls;
+        }
+    }
+
+}
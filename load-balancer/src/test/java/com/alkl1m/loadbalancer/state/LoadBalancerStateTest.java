@@ -0,0 +1,119 @@
+package com.alkl1m.loadbalancer.state;
+
+import com.alkl1m.time.Ticker;
+import com.alkl1m.time.VirtualTime;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadBalancerStateTest {
+
+    private static final long DECAY = TimeUnit.SECONDS.toNanos(10);
+
+    @Test
+    void testUpdateEndpoints_keepsStateOfRemainingEndpoints() {
+        LoadBalancerState state = new LoadBalancerState("test", 10, 3, 1000, 1000, 3.0, DECAY, Ticker.SYSTEM);
+        state.updateEndpoints(List.of("a", "b"));
+        EndpointState a = state.getEndpoints().get(0);
+
+        state.updateEndpoints(List.of("c", "a"));
+
+        assertSame(a, state.getEndpoints().get(1));
+        assertNotSame(a, state.getEndpoints().get(0));
+    }
+
+    @Test
+    void testCheckOutlier_ejectsEndpointMuchSlowerThanOthers() {
+        VirtualTime time = new VirtualTime();
+        LoadBalancerState state = new LoadBalancerState("test", 10, 3, 1000, TimeUnit.SECONDS.toNanos(30), 3.0, DECAY,
+                time);
+        state.updateEndpoints(List.of("fast-1", "fast-2", "slow"));
+        long now = time.nanoTime();
+        EndpointState slow = state.getEndpoints().get(2);
+        state.getEndpoints().get(0).recordLatency(1_000_000, now);
+        state.getEndpoints().get(1).recordLatency(1_000_000, now);
+        slow.recordLatency(50_000_000, now);
+
+        state.checkOutlier(state.getEndpoints().get(0), now);
+        state.checkOutlier(slow, now);
+
+        assertTrue(state.getEndpoints().get(0).isAvailable(now));
+        assertFalse(slow.isAvailable(now));
+        assertTrue(slow.isAvailable(now + TimeUnit.SECONDS.toNanos(31)));
+        for (int i = 0; i < 20; i++) {
+            assertNotSame(slow, state.choose(now));
+        }
+    }
+
+    @Test
+    void testChoose_spreadsCallsUniformlyOverAvailableEndpoints() {
+        VirtualTime time = new VirtualTime();
+        LoadBalancerState state = new LoadBalancerState("test", 10, 3, 1000, 1000, 3.0, DECAY, time);
+        state.updateEndpoints(List.of("ejected", "a", "b", "c"));
+        long now = time.nanoTime();
+        state.getEndpoints().get(0).eject(now + TimeUnit.SECONDS.toNanos(30));
+
+        Map<String, Integer> choices = new HashMap<>();
+        int samples = 30_000;
+        for (int i = 0; i < samples; i++) {
+            choices.merge(state.choose(now).getEndpoint(), 1, Integer::sum);
+        }
+
+        assertEquals(3, choices.size());
+        for (int count : choices.values()) {
+            double share = (double) count / samples;
+            assertTrue(share > 0.30 && share < 0.37, "choices " + choices);
+        }
+    }
+
+    @Test
+    void testAcquire_whenCircuitCanReset_allowsSingleTrialCall() {
+        VirtualTime time = new VirtualTime();
+        LoadBalancerState state = new LoadBalancerState("test", 10, 1, 1000, 1000, 3.0, DECAY, time);
+        state.updateEndpoints(List.of("a"));
+        EndpointState a = state.getEndpoints().get(0);
+        assertSame(a, state.acquire(time.nanoTime()));
+        a.onFailure();
+        a.release();
+        assertNull(state.acquire(time.nanoTime()));
+
+        time.advance(Duration.ofMillis(1001));
+
+        assertSame(a, state.acquire(time.nanoTime()));
+        assertFalse(a.isAvailable(time.nanoTime()));
+        assertNull(state.acquire(time.nanoTime()));
+        a.onSuccess();
+        a.release();
+        assertSame(a, state.acquire(time.nanoTime()));
+        assertSame(a, state.acquire(time.nanoTime()));
+    }
+
+    @Test
+    void testCost_whenEndpointIsIdle_decaysLatencyPenalty() {
+        VirtualTime time = new VirtualTime();
+        LoadBalancerState state = new LoadBalancerState("test", 10, 3, 1000, 1000, 3.0, DECAY, time);
+        state.updateEndpoints(List.of("failed", "healthy"));
+        EndpointState failed = state.getEndpoints().get(0);
+        EndpointState healthy = state.getEndpoints().get(1);
+        failed.recordLatency(TimeUnit.SECONDS.toNanos(1), time.nanoTime());
+        healthy.recordLatency(TimeUnit.MILLISECONDS.toNanos(10), time.nanoTime());
+
+        assertSame(healthy, state.choose(time.nanoTime()));
+
+        time.advance(Duration.ofSeconds(60));
+
+        assertTrue(failed.cost(time.nanoTime()) < TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.alkl1m.loadharness;
+
+import com.alkl1m.loadharness.client.CombinedClient;
+import com.alkl1m.loadharness.client.PatternClients;
+import com.alkl1m.loadharness.configuration.HarnessProperties;
+import com.alkl1m.loadharness.downstream.FaultProfile;
+import com.alkl1m.loadharness.downstream.FaultSchedule;
+import com.alkl1m.loadharness.downstream.StandInDownstream;
+import com.alkl1m.loadharness.load.LoadStatistics;
+import com.alkl1m.loadharness.load.OpenLoopGenerator;
+import com.alkl1m.loadharness.load.ScenarioReport;
+import com.alkl1m.time.Sleeper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Прогоняет каждую конфигурацию паттернов через одинаковый сценарий отказов из
+ * {@code harness.phases} (по умолчанию норма, деградация, полный отказ, восстановление)
+ * и печатает сводную таблицу.
+ *
+ * @author AlKl1M
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HarnessRunner implements ApplicationRunner {
+
+    private final HarnessProperties properties;
+    private final StandInDownstream downstream;
+    private final PatternClients patternClients;
+    private final CombinedClient combinedClient;
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        Map<String, Supplier<String>> scenarios = new LinkedHashMap<>();
+        scenarios.put("plain", patternClients::plain);
+        scenarios.put("retry", patternClients::retry);
+        scenarios.put("circuit-breaker", patternClients::circuitBreaker);
+        scenarios.put("bulkhead", patternClients::bulkhead);
+        scenarios.put("fallback", patternClients::fallback);
+        scenarios.put("fallback+breaker+retry", combinedClient::call);
+
+        FaultSchedule schedule = new FaultSchedule(properties.faultPhases(), Sleeper.SYSTEM);
+        Duration total = schedule.totalDuration();
+        OpenLoopGenerator generator = new OpenLoopGenerator(properties.getRatePerSecond());
+
+        List<ScenarioReport> reports = new ArrayList<>();
+        for (Map.Entry<String, Supplier<String>> scenario : scenarios.entrySet()) {
+            log.info("Running scenario '{}' at {} req/s for {}", scenario.getKey(), properties.getRatePerSecond(), total);
+            downstream.setProfile(FaultProfile.NONE);
+            downstream.resetReceivedRequests();
+
+            Thread phaseSwitcher = Thread.ofVirtual().start(() -> playPhases(schedule));
+            LoadStatistics statistics = generator.run(scenario.getValue(), total, PatternClients.FALLBACK_RESULT);
+            phaseSwitcher.join();
+
+            reports.add(new ScenarioReport(scenario.getKey(), statistics, downstream.getReceivedRequests()));
+        }
+
+        StringBuilder table = new StringBuilder(ScenarioReport.header());
+        reports.forEach(report -> table.append(System.lineSeparator()).append(report.format()));
+        log.info("Load harness results:{}{}", System.lineSeparator(), table);
+    }
+
+    private void playPhases(FaultSchedule schedule) {
+        try {
+            schedule.play(phase -> {
+                log.debug("Stand-in downstream phase: {}", phase.name());
+                downstream.setProfile(phase.profile());
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.alkl1m.loadharness;
+
+import com.alkl1m.loadharness.configuration.HarnessProperties;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+/**
+ * Нагрузочный стенд: встроенный stand-in сервис с инъекцией отказов и клиенты,
+ * защищенные паттернами. Работает полностью локально, без доступа к сети.
+ * <p>
+ * Запуск: {@code mvn -pl load-harness -am package -DskipTests && java -jar load-harness/target/load-harness-0.0.1-SNAPSHOT.jar}
+ *
+ * @author AlKl1M
+ */
+@SpringBootApplication
+@EnableConfigurationProperties(HarnessProperties.class)
+public class LoadHarnessApplication {
+
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(SpringApplication.run(LoadHarnessApplication.class, args)));
+    }
+
+}
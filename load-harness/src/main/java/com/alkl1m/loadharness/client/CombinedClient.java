@@ -0,0 +1,29 @@
+package com.alkl1m.loadharness.client;
+
+import com.alkl1m.fallback.annotation.Fallback;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Клиент с комбинацией паттернов: Fallback -> Circuit Breaker -> Retry.
+ * <p>
+ * Каждый слой вынесен в отдельный бин, чтобы порядок применения аспектов был однозначным.
+ *
+ * @author AlKl1M
+ */
+@Component
+@RequiredArgsConstructor
+public class CombinedClient {
+
+    private final PatternClients patternClients;
+
+    @Fallback(fallbackMethod = "fallbackResult")
+    public String call() {
+        return patternClients.circuitBreakerOverRetry();
+    }
+
+    public String fallbackResult() {
+        return PatternClients.FALLBACK_RESULT;
+    }
+
+}
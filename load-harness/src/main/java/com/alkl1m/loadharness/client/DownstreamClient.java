@@ -0,0 +1,58 @@
+package com.alkl1m.loadharness.client;
+
+import com.alkl1m.loadharness.configuration.HarnessProperties;
+import com.alkl1m.loadharness.downstream.StandInDownstream;
+import com.alkl1m.retry.annotation.Retryable;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * HTTP-клиент stand-in сервиса.
+ * <p>
+ * Адрес известен только после старта встроенного сервера, поэтому {@link RestClient}
+ * создается по событию {@link WebServerInitializedEvent}.
+ *
+ * @author AlKl1M
+ */
+@Component
+public class DownstreamClient {
+
+    private final Duration requestTimeout;
+    private volatile RestClient restClient;
+
+    public DownstreamClient(HarnessProperties properties) {
+        this.requestTimeout = properties.getRequestTimeout();
+    }
+
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(requestTimeout);
+        restClient = RestClient.builder()
+                .baseUrl("http://localhost:" + event.getWebServer().getPort())
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    public String fetch() {
+        return restClient.get()
+                .uri(StandInDownstream.PATH)
+                .retrieve()
+                .body(String.class);
+    }
+
+    @Retryable(maxAttempts = 3, backoff = 50)
+    public String fetchWithRetry() {
+        return fetch();
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.alkl1m.loadharness.client;
+
+import com.alkl1m.bulkhead.annotation.Bulkhead;
+import com.alkl1m.circuitbreaker.annotation.CircuitBreaker;
+import com.alkl1m.fallback.annotation.Fallback;
+import com.alkl1m.retry.annotation.Retryable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Клиенты stand-in сервиса, каждый метод защищен одним паттерном.
+ *
+ * @author AlKl1M
+ */
+@Component
+@RequiredArgsConstructor
+public class PatternClients {
+
+    public static final String FALLBACK_RESULT = "fallback";
+
+    private final DownstreamClient downstreamClient;
+
+    public String plain() {
+        return downstreamClient.fetch();
+    }
+
+    @Retryable(maxAttempts = 3, backoff = 50)
+    public String retry() {
+        return downstreamClient.fetch();
+    }
+
+    @CircuitBreaker(failureThreshold = 5, timeout = 1000)
+    public String circuitBreaker() {
+        return downstreamClient.fetch();
+    }
+
+    @Bulkhead(maxConcurrentCalls = 20, timeoutMs = 50)
+    public String bulkhead() {
+        return downstreamClient.fetch();
+    }
+
+    @Fallback(fallbackMethod = "fallbackResult")
+    public String fallback() {
+        return downstreamClient.fetch();
+    }
+
+    /**
+     * Повторы внутри Circuit Breaker: цепь считает ошибкой только исчерпание всех попыток.
+     */
+    @CircuitBreaker(failureThreshold = 5, timeout = 1000)
+    public String circuitBreakerOverRetry() {
+        return downstreamClient.fetchWithRetry();
+    }
+
+    public String fallbackResult() {
+        return FALLBACK_RESULT;
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.alkl1m.loadharness.configuration;
+
+import com.alkl1m.loadharness.downstream.FaultPhase;
+import com.alkl1m.loadharness.downstream.FaultProfile;
+import com.alkl1m.loadharness.downstream.LatencyDistribution;
+import com.alkl1m.loadharness.enums.DistributionType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Параметры нагрузочного стенда.
+ * <p>
+ * Сценарий отказов задается списком фаз, каждая ссылается на именованный профиль:
+ * <pre>
+ * harness.profiles.slow.distribution=uniform
+ * harness.profiles.slow.min-latency=100ms
+ * harness.profiles.slow.max-latency=300ms
+ * harness.profiles.slow.error-rate=0.05
+ * harness.phases[0].name=slow
+ * harness.phases[0].profile=slow
+ * harness.phases[0].duration=10s
+ * </pre>
+ *
+ * @author AlKl1M
+ */
+@Getter
+@Setter
+@ConfigurationProperties("harness")
+public class HarnessProperties {
+
+    /**
+     * Интенсивность открытой нагрузки, запросов в секунду. Не зависит от скорости ответов.
+     */
+    private int ratePerSecond = 200;
+
+    /**
+     * Длительность фазы сценария отказов, если у фазы она не задана.
+     */
+    private Duration phaseDuration = Duration.ofSeconds(5);
+
+    /**
+     * Таймаут подключения и чтения HTTP-клиента.
+     */
+    private Duration requestTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Именованные профили отказов stand-in сервиса.
+     */
+    private Map<String, Profile> profiles = new HashMap<>();
+
+    /**
+     * Фазы сценария отказов в порядке проигрывания.
+     */
+    private List<Phase> phases = new ArrayList<>();
+
+    /**
+     * Собирает фазы сценария из конфигурации.
+     *
+     * @return фазы в порядке проигрывания
+     * @throws IllegalArgumentException если фаза ссылается на неизвестный профиль
+     */
+    public List<FaultPhase> faultPhases() {
+        List<FaultPhase> faultPhases = new ArrayList<>();
+        for (Phase phase : phases) {
+            Profile profile = profiles.get(phase.getProfile());
+            if (profile == null) {
+                throw new IllegalArgumentException("Unknown fault profile '" + phase.getProfile()
+                        + "' in phase " + phase.getName());
+            }
+            Duration duration = phase.getDuration() != null ? phase.getDuration() : phaseDuration;
+            faultPhases.add(new FaultPhase(phase.getName(), duration, profile.toFaultProfile()));
+        }
+        return faultPhases;
+    }
+
+    @Getter
+    @Setter
+    public static class Profile {
+
+        /**
+         * Форма распределения задержки.
+         */
+        private DistributionType distribution = DistributionType.FIXED;
+
+        /**
+         * Задержка: значение для fixed, среднее для exponential, медиана для log-normal.
+         */
+        private Duration latency = Duration.ZERO;
+
+        /**
+         * Нижняя граница задержки для uniform.
+         */
+        private Duration minLatency = Duration.ZERO;
+
+        /**
+         * Верхняя граница задержки для uniform.
+         */
+        private Duration maxLatency = Duration.ZERO;
+
+        /**
+         * Параметр формы log-normal, чем больше, тем тяжелее хвост.
+         */
+        private double sigma = 0.5;
+
+        /**
+         * Доля ответов 500 (от 0 до 1).
+         */
+        private double errorRate;
+
+        /**
+         * Полный отказ - все запросы сразу получают 503.
+         */
+        private boolean unavailable;
+
+        public FaultProfile toFaultProfile() {
+            LatencyDistribution latencyDistribution = switch (distribution) {
+                case FIXED -> LatencyDistribution.fixed(latency.toMillis());
+                case UNIFORM -> LatencyDistribution.uniform(minLatency.toMillis(), maxLatency.toMillis());
+                case EXPONENTIAL -> LatencyDistribution.exponential(latency.toMillis());
+                case LOG_NORMAL -> LatencyDistribution.logNormal(latency.toMillis(), sigma);
+            };
+            return new FaultProfile(latencyDistribution, errorRate, unavailable);
+        }
+
+    }
+
+    @Getter
+    @Setter
+    public static class Phase {
+
+        /**
+         * Название фазы для журнала.
+         */
+        private String name;
+
+        /**
+         * Имя профиля из {@code harness.profiles}.
+         */
+        private String profile;
+
+        /**
+         * Длительность фазы, по умолчанию {@code harness.phase-duration}.
+         */
+        private Duration duration;
+
+    }
+
+}
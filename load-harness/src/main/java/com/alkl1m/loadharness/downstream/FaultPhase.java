@@ -0,0 +1,14 @@
+package com.alkl1m.loadharness.downstream;
+
+import java.time.Duration;
+
+/**
+ * Фаза сценария: профиль отказов, действующий заданное время.
+ *
+ * @param name     название фазы для отчета
+ * @param duration длительность фазы
+ * @param profile  профиль отказов
+ * @author AlKl1M
+ */
+public record FaultPhase(String name, Duration duration, FaultProfile profile) {
+}
@@ -0,0 +1,31 @@
+package com.alkl1m.loadharness.downstream;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Профиль отказов stand-in сервиса. Профили задаются в конфигурации
+ * ({@code harness.profiles.<name>.*}, см. {@link com.alkl1m.loadharness.configuration.HarnessProperties}).
+ *
+ * @param latency     распределение задержки
+ * @param errorRate   доля ответов 500 (от 0 до 1)
+ * @param unavailable полный отказ - все запросы сразу получают 503
+ * @author AlKl1M
+ */
+public record FaultProfile(LatencyDistribution latency, double errorRate, boolean unavailable) {
+
+    /**
+     * Без задержек и ошибок - профиль до начала первой фазы.
+     */
+    public static final FaultProfile NONE = new FaultProfile(LatencyDistribution.fixed(0), 0, false);
+
+    /**
+     * Решает, ответить ли на очередной запрос ошибкой.
+     *
+     * @param random генератор случайных чисел текущего потока
+     * @return true с вероятностью {@code errorRate}
+     */
+    public boolean sampleError(RandomGenerator random) {
+        return random.nextDouble() < errorRate;
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.alkl1m.loadharness.downstream;
+
+import com.alkl1m.time.Sleeper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Сценарий отказов: фазы проигрываются по порядку, каждая действует свою длительность.
+ * <p>
+ * Паузы выдерживаются через {@link Sleeper}, поэтому сценарий можно проиграть на виртуальном времени.
+ *
+ * @author AlKl1M
+ */
+public class FaultSchedule {
+
+    private final List<FaultPhase> phases;
+    private final Sleeper sleeper;
+
+    public FaultSchedule(List<FaultPhase> phases, Sleeper sleeper) {
+        this.phases = List.copyOf(phases);
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * @return суммарная длительность всех фаз
+     */
+    public Duration totalDuration() {
+        return phases.stream().map(FaultPhase::duration).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /**
+     * Проигрывает фазы: в начале каждой передает ее в {@code onPhase} и ждет ее длительность.
+     *
+     * @param onPhase переключение профиля, например {@link StandInDownstream#setProfile}
+     * @throws InterruptedException если поток прерван во время фазы
+     */
+    public void play(Consumer<FaultPhase> onPhase) throws InterruptedException {
+        for (FaultPhase phase : phases) {
+            onPhase.accept(phase);
+            sleeper.sleep(phase.duration().toMillis());
+        }
+    }
+
+    public List<FaultPhase> getPhases() {
+        return phases;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.alkl1m.loadharness.downstream;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Распределение задержки ответа stand-in сервиса.
+ *
+ * @author AlKl1M
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Возвращает очередное значение задержки.
+     *
+     * @param random генератор случайных чисел текущего потока
+     * @return задержка в миллисекундах
+     */
+    long sampleMillis(RandomGenerator random);
+
+    static LatencyDistribution fixed(long millis) {
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        return random -> random.nextLong(minMillis, maxMillis + 1);
+    }
+
+    static LatencyDistribution exponential(double meanMillis) {
+        return random -> Math.round(random.nextExponential() * meanMillis);
+    }
+
+    /**
+     * Логнормальное распределение - типичная форма задержек сетевых сервисов с длинным хвостом.
+     *
+     * @param medianMillis медиана задержки
+     * @param sigma        параметр формы, чем больше, тем тяжелее хвост
+     * @return распределение
+     */
+    static LatencyDistribution logNormal(double medianMillis, double sigma) {
+        return random -> Math.round(medianMillis * Math.exp(sigma * random.nextGaussian()));
+    }
+
+}
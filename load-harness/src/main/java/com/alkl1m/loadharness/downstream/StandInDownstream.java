@@ -0,0 +1,59 @@
+package com.alkl1m.loadharness.downstream;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Локальная замена нижестоящего сервиса.
+ * <p>
+ * Отвечает с задержкой и ошибками согласно текущему {@link FaultProfile}, профиль можно
+ * переключать во время нагрузки. Считает все полученные запросы, что позволяет оценить
+ * коэффициент усиления нагрузки (amplification) со стороны клиента.
+ *
+ * @author AlKl1M
+ */
+@RestController
+public class StandInDownstream {
+
+    public static final String PATH = "/stand-in/resource";
+
+    private final LongAdder receivedRequests = new LongAdder();
+    private volatile FaultProfile profile = FaultProfile.NONE;
+
+    @GetMapping(PATH)
+    public ResponseEntity<String> resource() throws InterruptedException {
+        receivedRequests.increment();
+        FaultProfile current = profile;
+        if (current.unavailable()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latency = current.latency().sampleMillis(random);
+        if (latency > 0) {
+            Thread.sleep(latency);
+        }
+        if (current.sampleError(random)) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+        return ResponseEntity.ok("ok");
+    }
+
+    public void setProfile(FaultProfile profile) {
+        this.profile = profile;
+    }
+
+    public long getReceivedRequests() {
+        return receivedRequests.sum();
+    }
+
+    public void resetReceivedRequests() {
+        receivedRequests.reset();
+    }
+
+}
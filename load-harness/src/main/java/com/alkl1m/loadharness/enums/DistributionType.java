@@ -0,0 +1,30 @@
+package com.alkl1m.loadharness.enums;
+
+/**
+ * Форма распределения задержки stand-in сервиса.
+ *
+ * @author AlKl1M
+ */
+public enum DistributionType {
+
+    /**
+     * Постоянная задержка {@code latency}.
+     */
+    FIXED,
+
+    /**
+     * Равномерно от {@code min-latency} до {@code max-latency}.
+     */
+    UNIFORM,
+
+    /**
+     * Экспоненциальное распределение со средним {@code latency}.
+     */
+    EXPONENTIAL,
+
+    /**
+     * Логнормальное распределение с медианой {@code latency} и параметром формы {@code sigma}.
+     */
+    LOG_NORMAL
+
+}
@@ -0,0 +1,76 @@
+package com.alkl1m.loadharness.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Счетчики исходов и гистограмма задержек одного прогона.
+ * <p>
+ * Запись идет из множества виртуальных потоков, поэтому используются {@link LongAdder}
+ * и {@link ConcurrentHistogram}.
+ *
+ * @author AlKl1M
+ */
+public class LoadStatistics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder degraded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Histogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private volatile long elapsedNanos;
+
+    /**
+     * Фиксирует исход вызова.
+     *
+     * @param outcome      исход
+     * @param latencyNanos задержка от запланированного момента старта
+     */
+    public void record(Outcome outcome, long latencyNanos) {
+        switch (outcome) {
+            case SUCCESS -> succeeded.increment();
+            case DEGRADED -> degraded.increment();
+            case FAILED -> failed.increment();
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+        latencyMicros.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+    }
+
+    /**
+     * Фиксирует время прогона от старта подачи нагрузки до завершения последнего вызова.
+     *
+     * @param elapsedNanos время прогона
+     */
+    public void recordElapsed(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    public long getDegraded() {
+        return degraded.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getCompleted() {
+        return getSucceeded() + getDegraded() + getFailed();
+    }
+
+    public Histogram getLatencyMicros() {
+        return latencyMicros;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+}
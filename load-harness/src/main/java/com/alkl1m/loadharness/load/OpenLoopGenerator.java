@@ -0,0 +1,68 @@
+package com.alkl1m.loadharness.load;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Генератор открытой нагрузки.
+ * <p>
+ * Запросы стартуют по расписанию с постоянной интенсивностью независимо от того, завершились ли
+ * предыдущие: каждый вызов выполняется в своем виртуальном потоке. Задержка считается от
+ * запланированного момента старта, поэтому медленные ответы не скрывают очередь
+ * (нет coordinated omission).
+ *
+ * @author AlKl1M
+ */
+public class OpenLoopGenerator {
+
+    private final int ratePerSecond;
+
+    public OpenLoopGenerator(int ratePerSecond) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("ratePerSecond must be positive");
+        }
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    /**
+     * Подает нагрузку в течение заданного времени и дожидается завершения всех вызовов.
+     * Время прогона в статистике включает ожидание последних вызовов, поэтому медленные ответы
+     * снижают пропускную способность, а не прячутся за заданной интенсивностью.
+     *
+     * @param call     вызов клиента; результат {@code degradedResult} считается деградированным ответом
+     * @param duration длительность подачи нагрузки
+     * @param degradedResult результат резервного метода
+     * @return статистика прогона
+     */
+    public LoadStatistics run(Supplier<String> call, Duration duration, String degradedResult) {
+        LoadStatistics statistics = new LoadStatistics();
+        long intervalNanos = 1_000_000_000L / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long scheduled = start; scheduled < end; scheduled += intervalNanos) {
+                long delay = scheduled - System.nanoTime();
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+                long intendedStart = scheduled;
+                executor.execute(() -> {
+                    Outcome outcome;
+                    try {
+                        outcome = degradedResult.equals(call.get()) ? Outcome.DEGRADED : Outcome.SUCCESS;
+                    } catch (RuntimeException e) {
+                        outcome = Outcome.FAILED;
+                    }
+                    statistics.record(outcome, System.nanoTime() - intendedStart);
+                });
+            }
+        }
+        statistics.recordElapsed(System.nanoTime() - start);
+        return statistics;
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.alkl1m.loadharness.load;
+
+/**
+ * Исход одного вызова клиента.
+ *
+ * @author AlKl1M
+ */
+public enum Outcome {
+
+    SUCCESS, DEGRADED, FAILED
+
+}
@@ -0,0 +1,63 @@
+package com.alkl1m.loadharness.load;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Итоги прогона одной конфигурации паттернов.
+ *
+ * @param scenario           название конфигурации
+ * @param statistics         статистика вызовов клиента, в том числе измеренное время прогона
+ * @param downstreamRequests число запросов, дошедших до stand-in сервиса
+ * @author AlKl1M
+ */
+public record ScenarioReport(String scenario, LoadStatistics statistics, long downstreamRequests) {
+
+    public static String header() {
+        return String.format("%-26s %8s %9s %9s %8s %8s %6s %9s %9s %9s %9s %9s",
+                "scenario", "calls", "thr/s", "good/s", "degraded", "failed", "ampl",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    /**
+     * Пропускная способность: все завершенные вызовы в секунду измеренного времени прогона.
+     * Деление на заданную длительность всегда давало бы заданную интенсивность открытой нагрузки.
+     */
+    public double throughput() {
+        return rate(statistics.getCompleted());
+    }
+
+    /**
+     * Полезная пропускная способность: только вызовы, получившие настоящий ответ сервиса.
+     */
+    public double goodput() {
+        return rate(statistics.getSucceeded());
+    }
+
+    /**
+     * Коэффициент усиления: сколько запросов получил сервис на один вызов клиента.
+     */
+    public double amplification() {
+        long calls = statistics.getCompleted();
+        return calls == 0 ? 0 : (double) downstreamRequests / calls;
+    }
+
+    public String format() {
+        Histogram latency = statistics.getLatencyMicros();
+        return String.format("%-26s %8d %9.1f %9.1f %8d %8d %6.2f %9.1f %9.1f %9.1f %9.1f %9.1f",
+                scenario, statistics.getCompleted(), throughput(), goodput(),
+                statistics.getDegraded(), statistics.getFailed(), amplification(),
+                millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()));
+    }
+
+    private double rate(long calls) {
+        long elapsedNanos = statistics.getElapsedNanos();
+        return elapsedNanos == 0 ? 0 : calls / (elapsedNanos / 1e9);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.alkl1m.loadharness.configuration;
+
+import com.alkl1m.loadharness.downstream.FaultPhase;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HarnessPropertiesTest {
+
+    @Test
+    void testFaultPhases_bindsProfilesAndPhasesFromConfiguration() {
+        HarnessProperties properties = bind(Map.of(
+                "harness.profiles.slow.distribution", "uniform",
+                "harness.profiles.slow.min-latency", "100ms",
+                "harness.profiles.slow.max-latency", "100ms",
+                "harness.profiles.slow.error-rate", "0.25",
+                "harness.profiles.down.unavailable", "true",
+                "harness.phases[0].name", "slow",
+                "harness.phases[0].profile", "slow",
+                "harness.phases[1].name", "down",
+                "harness.phases[1].profile", "down",
+                "harness.phases[1].duration", "10s"));
+
+        List<FaultPhase> phases = properties.faultPhases();
+
+        assertEquals(2, phases.size());
+        assertEquals(Duration.ofSeconds(5), phases.get(0).duration());
+        assertEquals(100, phases.get(0).profile().latency().sampleMillis(new SplittableRandom(1)));
+        assertEquals(0.25, phases.get(0).profile().errorRate());
+        assertFalse(phases.get(0).profile().unavailable());
+        assertEquals(Duration.ofSeconds(10), phases.get(1).duration());
+        assertTrue(phases.get(1).profile().unavailable());
+    }
+
+    @Test
+    void testFaultPhases_whenProfileUnknown_thenFails() {
+        HarnessProperties properties = bind(Map.of(
+                "harness.phases[0].name", "missing",
+                "harness.phases[0].profile", "missing"));
+
+        assertThrows(IllegalArgumentException.class, properties::faultPhases);
+    }
+
+    private static HarnessProperties bind(Map<String, String> values) {
+        return new Binder(new MapConfigurationPropertySource(values))
+                .bind("harness", HarnessProperties.class)
+                .get();
+    }
+
+}
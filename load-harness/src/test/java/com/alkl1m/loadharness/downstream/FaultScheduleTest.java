@@ -0,0 +1,41 @@
+package com.alkl1m.loadharness.downstream;
+
+import com.alkl1m.time.VirtualTime;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FaultScheduleTest {
+
+    private final FaultProfile healthy = new FaultProfile(LatencyDistribution.fixed(10), 0.01, false);
+    private final FaultProfile outage = new FaultProfile(LatencyDistribution.fixed(0), 1.0, true);
+
+    @Test
+    void testPlay_switchesProfilesInOrderAtPhaseBoundaries() throws InterruptedException {
+        VirtualTime time = new VirtualTime();
+        FaultSchedule schedule = new FaultSchedule(List.of(
+                new FaultPhase("healthy", Duration.ofSeconds(5), healthy),
+                new FaultPhase("outage", Duration.ofSeconds(2), outage),
+                new FaultPhase("recovery", Duration.ofSeconds(5), healthy)), time);
+        List<String> switches = new ArrayList<>();
+
+        schedule.play(phase -> switches.add(phase.name() + "@" + Duration.ofNanos(time.nanoTime()).toSeconds() + "s"));
+
+        assertEquals(List.of("healthy@0s", "outage@5s", "recovery@7s"), switches);
+        assertEquals(Duration.ofSeconds(12).toNanos(), time.nanoTime());
+    }
+
+    @Test
+    void testTotalDuration_sumsPhases() {
+        FaultSchedule schedule = new FaultSchedule(List.of(
+                new FaultPhase("healthy", Duration.ofSeconds(5), healthy),
+                new FaultPhase("outage", Duration.ofMillis(1500), outage)), new VirtualTime());
+
+        assertEquals(Duration.ofMillis(6500), schedule.totalDuration());
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.alkl1m.loadharness.downstream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyDistributionTest {
+
+    private static final int SAMPLES = 20_000;
+
+    @Test
+    void testUniform_staysWithinBoundsAndCoversRange() {
+        long[] samples = sample(LatencyDistribution.uniform(100, 300));
+
+        assertEquals(100, Arrays.stream(samples).min().orElseThrow());
+        assertEquals(300, Arrays.stream(samples).max().orElseThrow());
+        assertEquals(200, Arrays.stream(samples).average().orElseThrow(), 2);
+    }
+
+    @Test
+    void testExponential_hasConfiguredMean() {
+        long[] samples = sample(LatencyDistribution.exponential(50));
+
+        assertTrue(Arrays.stream(samples).allMatch(sample -> sample >= 0));
+        assertEquals(50, Arrays.stream(samples).average().orElseThrow(), 2);
+    }
+
+    @Test
+    void testLogNormal_hasConfiguredMedianAndLongTail() {
+        long[] samples = sample(LatencyDistribution.logNormal(10, 0.6));
+        Arrays.sort(samples);
+
+        assertEquals(10, samples[SAMPLES / 2], 1);
+        assertTrue(samples[SAMPLES * 99 / 100] > 3 * samples[SAMPLES / 2]);
+    }
+
+    @Test
+    void testFaultProfile_sampleError_matchesErrorRate() {
+        FaultProfile profile = new FaultProfile(LatencyDistribution.fixed(0), 0.3, false);
+        RandomGenerator random = new SplittableRandom(42);
+
+        long errors = LongStream.range(0, SAMPLES).filter(i -> profile.sampleError(random)).count();
+
+        assertEquals(0.3, (double) errors / SAMPLES, 0.02);
+        assertFalse(FaultProfile.NONE.sampleError(random));
+    }
+
+    private static long[] sample(LatencyDistribution distribution) {
+        RandomGenerator random = new SplittableRandom(42);
+        return LongStream.range(0, SAMPLES).map(i -> distribution.sampleMillis(random)).toArray();
+    }
+
+}
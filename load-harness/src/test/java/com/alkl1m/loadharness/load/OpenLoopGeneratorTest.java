@@ -0,0 +1,57 @@
+package com.alkl1m.loadharness.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenLoopGeneratorTest {
+
+    @Test
+    void testRun_startsCallsAtConfiguredRateAndCountsOutcomes() {
+        OpenLoopGenerator generator = new OpenLoopGenerator(500);
+        AtomicInteger calls = new AtomicInteger();
+
+        LoadStatistics statistics = generator.run(() -> switch (calls.incrementAndGet() % 3) {
+            case 0 -> "fallback";
+            case 1 -> "ok";
+            default -> throw new IllegalStateException("Simulated failure");
+        }, Duration.ofMillis(200), "fallback");
+
+        assertEquals(100, statistics.getCompleted());
+        assertEquals(34, statistics.getSucceeded());
+        assertEquals(33, statistics.getDegraded());
+        assertEquals(33, statistics.getFailed());
+        assertEquals(100, statistics.getLatencyMicros().getTotalCount());
+    }
+
+    @Test
+    void testRun_whenCallsOutliveLoadWindow_measuresElapsedUntilLastCompletion() {
+        OpenLoopGenerator generator = new OpenLoopGenerator(100);
+
+        LoadStatistics statistics = generator.run(() -> {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "ok";
+        }, Duration.ofMillis(100), "fallback");
+
+        assertEquals(10, statistics.getCompleted());
+        assertTrue(statistics.getElapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(390),
+                "elapsed " + statistics.getElapsedNanos());
+        assertTrue(statistics.getLatencyMicros().getMinValue() >= TimeUnit.MILLISECONDS.toMicros(300));
+    }
+
+    @Test
+    void testConstructor_whenRateIsNotPositive_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new OpenLoopGenerator(0));
+    }
+
+}
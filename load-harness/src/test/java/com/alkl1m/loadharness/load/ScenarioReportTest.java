@@ -0,0 +1,39 @@
+package com.alkl1m.loadharness.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ScenarioReportTest {
+
+    @Test
+    void testThroughput_dividesByMeasuredElapsedTime() {
+        LoadStatistics statistics = new LoadStatistics();
+        for (int i = 0; i < 60; i++) {
+            statistics.record(Outcome.SUCCESS, TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        for (int i = 0; i < 20; i++) {
+            statistics.record(Outcome.DEGRADED, TimeUnit.MILLISECONDS.toNanos(5));
+            statistics.record(Outcome.FAILED, TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        statistics.recordElapsed(TimeUnit.SECONDS.toNanos(4));
+
+        ScenarioReport report = new ScenarioReport("retry", statistics, 150);
+
+        assertEquals(25.0, report.throughput(), 1e-9);
+        assertEquals(15.0, report.goodput(), 1e-9);
+        assertEquals(1.5, report.amplification(), 1e-9);
+    }
+
+    @Test
+    void testThroughput_whenNothingMeasured_isZero() {
+        ScenarioReport report = new ScenarioReport("plain", new LoadStatistics(), 0);
+
+        assertEquals(0.0, report.throughput());
+        assertEquals(0.0, report.goodput());
+        assertEquals(0.0, report.amplification());
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.alkl1m.retry.adaptive;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Затухающая статистика успеха по номеру попытки для одного метода.
+ * <p>
+ * Для каждой попытки хранится пара "успехи / попытки" с экспоненциальным затуханием по событиям:
+ * при каждой новой записи старые значения умножаются на {@code decay}, поэтому статистика отражает
+ * примерно последние {@code 1 / (1 - decay)} вызовов этой попытки. Пара упакована в один {@code long}
+ * (два {@code float}) и обновляется одним CAS без блокировок.
+ * <p>
+ * Вероятность успеха попытки оценивается как {@code (успехи + 1) / (попытки + 2)}: без данных это 0.5,
+ * поэтому новые методы повторяются как обычно. Попытки после исчерпания оценки перестают выполняться,
+ * и их статистика больше не обновлялась бы, поэтому каждый {@code probeInterval}-й отклоненный повтор
+ * все же выполняется - так статистика восстанавливается после окончания сбоя.
+ *
+ * @author AlKl1M
+ */
+public class AttemptStatistics {
+
+    public static final int MAX_TRACKED_ATTEMPTS = 16;
+    public static final double DEFAULT_DECAY = 0.99;
+    public static final int DEFAULT_PROBE_INTERVAL = 20;
+
+    private final AtomicLongArray counters = new AtomicLongArray(MAX_TRACKED_ATTEMPTS);
+    private final float decay;
+    private final AtomicLong rejectedRetries = new AtomicLong();
+    private final int probeInterval;
+
+    public AttemptStatistics() {
+        this(DEFAULT_DECAY, DEFAULT_PROBE_INTERVAL);
+    }
+
+    public AttemptStatistics(double decay, int probeInterval) {
+        this.decay = (float) decay;
+        this.probeInterval = probeInterval;
+    }
+
+    /**
+     * Учитывает результат попытки.
+     *
+     * @param attempt номер попытки, начиная с 1
+     * @param success успешна ли попытка
+     */
+    public void record(int attempt, boolean success) {
+        int index = index(attempt);
+        long current;
+        long updated;
+        do {
+            current = counters.get(index);
+            float successes = successes(current) * decay + (success ? 1 : 0);
+            float tries = tries(current) * decay + 1;
+            updated = pack(successes, tries);
+        } while (!counters.compareAndSet(index, current, updated));
+    }
+
+    /**
+     * @param attempt номер попытки, начиная с 1
+     * @return оценка вероятности успеха попытки (попытка выполняется, только если предыдущие не удались)
+     */
+    public double successProbability(int attempt) {
+        long packed = counters.get(index(attempt));
+        return (successes(packed) + 1.0) / (tries(packed) + 2.0);
+    }
+
+    /**
+     * @param failedAttempt номер неудачной попытки
+     * @param maxAttempts   максимальное количество попыток
+     * @return оценка вероятности, что хотя бы одна из оставшихся попыток будет успешной
+     */
+    public double laterSuccessProbability(int failedAttempt, int maxAttempts) {
+        double allFail = 1.0;
+        for (int attempt = failedAttempt + 1; attempt <= maxAttempts; attempt++) {
+            allFail *= 1.0 - successProbability(attempt);
+        }
+        return 1.0 - allFail;
+    }
+
+    /**
+     * Решает, стоит ли повторять после неудачной попытки.
+     *
+     * @param failedAttempt         номер неудачной попытки
+     * @param maxAttempts           максимальное количество попыток
+     * @param minSuccessProbability порог вероятности успеха оставшихся попыток
+     * @return true если оценка не ниже порога или вызов выбран для пробы
+     */
+    public boolean shouldRetry(int failedAttempt, int maxAttempts, double minSuccessProbability) {
+        return laterSuccessProbability(failedAttempt, maxAttempts) >= minSuccessProbability
+                || probeInterval > 0 && rejectedRetries.incrementAndGet() % probeInterval == 0;
+    }
+
+    /**
+     * @param attempt номер попытки, начиная с 1
+     * @return затухающее количество выполненных попыток
+     */
+    public double getTries(int attempt) {
+        return tries(counters.get(index(attempt)));
+    }
+
+    /**
+     * @param attempt номер попытки, начиная с 1
+     * @return затухающее количество успешных попыток
+     */
+    public double getSuccesses(int attempt) {
+        return successes(counters.get(index(attempt)));
+    }
+
+    private static int index(int attempt) {
+        return Math.min(Math.max(attempt, 1), MAX_TRACKED_ATTEMPTS) - 1;
+    }
+
+    private static long pack(float successes, float tries) {
+        return ((long) Float.floatToRawIntBits(successes) << 32) | (Float.floatToRawIntBits(tries) & 0xFFFFFFFFL);
+    }
+
+    private static float successes(long packed) {
+        return Float.intBitsToFloat((int) (packed >>> 32));
+    }
+
+    private static float tries(long packed) {
+        return Float.intBitsToFloat((int) packed);
+    }
+
+}
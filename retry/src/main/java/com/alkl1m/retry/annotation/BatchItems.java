@@ -0,0 +1,30 @@
+package com.alkl1m.retry.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Отмечает аргумент-коллекцию метода с {@link Retryable}, по элементам которой метод возвращает
+ * {@code Map<элемент, результат>}. Для такого метода повтор отправляет только элементы,
+ * не получившие результат, а результаты попыток объединяются.
+ * <p>
+ * Частичный сбой сообщается исключением {@link com.alkl1m.retry.exception.PartialBatchFailureException}
+ * или, при {@link #retryMissing()}, отсутствием элементов в возвращенном отображении.
+ *
+ * @author AlKl1M
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface BatchItems {
+
+    /**
+     * Считать ли элементы, отсутствующие в результате, неудачными.
+     *
+     * @return true, если отсутствующие элементы нужно повторить (по умолчанию false -
+     * отсутствие элемента означает, что для него нет результата, например он не найден)
+     */
+    boolean retryMissing() default false;
+
+}
@@ -5,14 +5,43 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Аннотация для аспекта повторов.
+ * <p>
+ * Если задано имя {@link #name()}, количество попыток и паузу можно переопределить
+ * во внешней конфигурации ({@code resilience.retry.<name>.*}).
+ * <p>
+ * Пауза, запрошенная сервером (например, {@code Retry-After}), не может превышать
+ * {@link #maxHintWait()}: если сервер просит ждать дольше, исключение пробрасывается сразу.
+ * <p>
+ * При {@link #adaptive()} {@link #maxAttempts()} становится верхней границей: повтор прекращается раньше,
+ * если по наблюдаемой статистике метода оставшиеся попытки почти наверняка не будут успешными
+ * (вероятность ниже {@link #minSuccessProbability()}).
+ *
+ * @author AlKl1M
+ */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface Retryable {
 
+    String name() default "";
+
     int maxAttempts() default 3;
 
     long backoff() default 1000;
 
+    long maxHintWait() default 10000;
+
+    boolean adaptive() default false;
+
+    double minSuccessProbability() default 0.1;
+
+    /**
+     * Исключения, при которых вызов повторяется. Отказы bulkhead ({@code BulkheadException},
+     * {@code OverloadException}) повторяются, только если их класс указан здесь явно.
+     *
+     * @return классы исключений для повтора (по умолчанию {@link Exception})
+     */
     Class<? extends Throwable>[] retryOn() default {Exception.class};
 
 }
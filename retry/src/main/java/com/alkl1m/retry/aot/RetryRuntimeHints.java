@@ -0,0 +1,26 @@
+package com.alkl1m.retry.aot;
+
+import com.alkl1m.retry.annotation.BatchItems;
+import com.alkl1m.retry.annotation.Retryable;
+import com.alkl1m.retry.aspect.RetryAspect;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Подсказки native-image: помимо {@link Retryable} и {@link RetryAspect}, регистрируется {@link BatchItems},
+ * по которой аспект находит параметр с элементами пакета.
+ *
+ * @author AlKl1M
+ */
+public class RetryRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(Retryable.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(BatchItems.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(RetryAspect.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.alkl1m.retry.aspect;
+
+import com.alkl1m.bulkhead.exception.BulkheadException;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Распознает отказы bulkhead.
+ * <p>
+ * Отказы bulkhead ({@code BulkheadException} и его подкласс {@code OverloadException}) по умолчанию
+ * не повторяются: вызов не дошел до сервиса, и повтор только добавит нагрузку на перегруженный bulkhead.
+ * Модуль bulkhead необязателен, поэтому классы исключений загружаются, только если он есть в classpath.
+ *
+ * @author AlKl1M
+ */
+final class BulkheadRejections {
+
+    private static final boolean BULKHEAD_PRESENT = ClassUtils.isPresent(
+            "com.alkl1m.bulkhead.exception.BulkheadException", BulkheadRejections.class.getClassLoader());
+
+    private BulkheadRejections() {
+    }
+
+    /**
+     * @param error исключение вызова
+     * @return true если вызов отклонен bulkhead
+     */
+    static boolean isRejection(Throwable error) {
+        return BULKHEAD_PRESENT && Bulkhead.isRejection(error);
+    }
+
+    /**
+     * @param type тип исключения
+     * @return true если тип - отказ bulkhead или его подкласс
+     */
+    static boolean isRejectionType(Class<?> type) {
+        return BULKHEAD_PRESENT && Bulkhead.isRejectionType(type);
+    }
+
+    private static final class Bulkhead {
+
+        private static boolean isRejection(Throwable error) {
+            return error instanceof BulkheadException;
+        }
+
+        private static boolean isRejectionType(Class<?> type) {
+            return BulkheadException.class.isAssignableFrom(type);
+        }
+
+    }
+
+}
@@ -1,13 +1,32 @@
 package com.alkl1m.retry.aspect;
 
+import com.alkl1m.retry.adaptive.AttemptStatistics;
+import com.alkl1m.retry.annotation.BatchItems;
 import com.alkl1m.retry.annotation.Retryable;
+import com.alkl1m.retry.batch.BatchRetryState;
+import com.alkl1m.retry.configuration.RetryProperties;
+import com.alkl1m.retry.exception.PartialBatchFailureException;
+import com.alkl1m.retry.hint.RetryHint;
+import com.alkl1m.retry.hint.RetryHintExtractor;
+import com.alkl1m.retry.jfr.RetryAttemptEvent;
+import com.alkl1m.retry.jfr.RetrySleepEvent;
+import com.alkl1m.retry.metrics.RetryMetrics;
+import com.alkl1m.time.Sleeper;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
-import org.springframework.stereotype.Component;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Аспект для реализации паттерна Retry с использованием Spring AOP.
@@ -22,28 +41,71 @@ import java.util.Arrays;
  *   <li>Настраиваемое количество попыток выполнения</li>
  *   <li>Экспоненциальная задержка между попытками (backoff)</li>
  *   <li>Фильтрация исключений для повтора</li>
+ *   <li>Учет подсказок сервера ({@code Retry-After}) через {@link RetryHintExtractor}</li>
+ *   <li>Пакетный повтор только неудачных элементов для аргумента с {@link BatchItems}</li>
+ *   <li>Адаптивное число попыток по статистике успеха {@link AttemptStatistics}</li>
  * </ul>
  *
  * <p><b>Принцип работы:</b></p>
  * <ol>
  *   <li>Перехват методов с аннотацией {@link Retryable}</li>
  *   <li>Повтор выполнения метода до достижения maxAttempts</li>
- *   <li>Выдержка паузы между попытками при backoff > 0</li>
+ *   <li>Выдержка паузы между попытками при backoff > 0 через {@link Sleeper}</li>
  *   <li>Проверка типа исключения через shouldRetry</li>
  * </ol>
  *
  * @author AlKl1M
  */
 @Aspect
-@Component
+@Order(RetryAspect.ORDER)
 public class RetryAspect {
 
+    /**
+     * Порядок аспекта: внутри fallback и снаружи Circuit Breaker, bulkhead и балансировщика,
+     * поэтому каждая попытка заново проходит цепь, ждет разрешения bulkhead и выбирает реплику.
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 400;
+
+    private static final BatchRetryState.BatchParameter NO_BATCH = new BatchRetryState.BatchParameter(-1, null, false);
+
+    private final Map<Method, BatchRetryState.BatchParameter> batchParameters = new ConcurrentHashMap<>();
+    private final Map<Method, AttemptStatistics> attemptStatistics = new ConcurrentHashMap<>();
+    private volatile RetryProperties properties;
+    private volatile RetryMetrics metrics;
+    private volatile RetryHintExtractor hintExtractor;
+    private volatile Sleeper sleeper;
+
+    public RetryAspect() {
+        this(new RetryProperties(), RetryMetrics.NOOP, RetryHintExtractor.NONE, Sleeper.SYSTEM);
+    }
+
+    public RetryAspect(RetryProperties properties, RetryMetrics metrics, RetryHintExtractor hintExtractor,
+                       Sleeper sleeper) {
+        configure(properties, metrics, hintExtractor, sleeper);
+    }
+
+    /**
+     * Вызывается из {@code RetryConfiguration} для вплетенного экземпляра в режиме {@code aspectj}.
+     *
+     * @param properties именованные политики
+     * @param metrics метрики
+     * @param hintExtractor извлечение подсказок сервера
+     * @param sleeper выдержка пауз между попытками
+     */
+    public void configure(RetryProperties properties, RetryMetrics metrics, RetryHintExtractor hintExtractor,
+                          Sleeper sleeper) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.hintExtractor = hintExtractor;
+        this.sleeper = sleeper;
+    }
+
     /**
      * Точка среза для методов с аннотацией {@link Retryable}.
      *
      * @param retryable экземпляр аннотации с параметрами повтора
      */
-    @Pointcut("@annotation(retryable)")
+    @Pointcut("execution(* *(..)) && @annotation(retryable)")
     public void retryPointcut(Retryable retryable) {
     }
 
@@ -52,16 +114,23 @@ public class RetryAspect {
      *
      * <p><b>Алгоритм работы:</b></p>
      * <ol>
-     *   <li>Извлечение параметров из аннотации</li>
+     *   <li>Извлечение параметров из именованной политики {@link RetryProperties} или аннотации</li>
+     *   <li>Для метода с аргументом {@link BatchItems} - создание {@link BatchRetryState}: результаты
+     *   попыток объединяются, а повтор отправляет только неудачные элементы</li>
      *   <li>Цикл попыток выполнения до достижения maxAttempts</li>
      *   <li>Обработка исключений:
      *     <ul>
-     *       <li>Проверка типа исключения через shouldRetry()</li>
+     *       <li>Проверка типа исключения через shouldRetry(), отказы bulkhead по умолчанию не повторяются</li>
+     *       <li>Запрос подсказки у {@link RetryHintExtractor}: отказ от повтора или пауза не меньше
+     *       запрошенной сервером; подсказка дольше maxHintWait прерывает повторы сразу</li>
+     *       <li>В адаптивном режиме - отказ от повтора, если оценка успеха оставшихся попыток ниже порога</li>
      *       <li>Выдержка паузы при необходимости</li>
      *       <li>Повтор при совпадении типа исключения</li>
      *     </ul>
      *   </li>
      *   <li>Проброс последнего исключения при исчерпании попыток</li>
+     *   <li>Передача числа попыток и результата в {@link RetryMetrics}</li>
+     *   <li>Запись JFR-событий {@link RetryAttemptEvent} и {@link RetrySleepEvent}</li>
      * </ol>
      *
      * @param joinPoint точка соединения для доступа к параметрам метода
@@ -71,43 +140,139 @@ public class RetryAspect {
      */
     @Around(value = "retryPointcut(retryable)", argNames = "joinPoint, retryable")
     public Object retryOperation(ProceedingJoinPoint joinPoint, Retryable retryable) throws Throwable {
-        int maxAttempts = retryable.maxAttempts();
-        long backoff = retryable.backoff();
+        RetryProperties.Policy policy = properties.policy(retryable.name());
+        int maxAttempts = policy != null && policy.getMaxAttempts() != null
+                ? policy.getMaxAttempts()
+                : retryable.maxAttempts();
+        long backoff = policy != null && policy.getBackoff() != null
+                ? policy.getBackoff()
+                : retryable.backoff();
+        long maxHintWait = policy != null && policy.getMaxHintWait() != null
+                ? policy.getMaxHintWait()
+                : retryable.maxHintWait();
+        boolean adaptive = policy != null && policy.getAdaptive() != null
+                ? policy.getAdaptive()
+                : retryable.adaptive();
+        double minSuccessProbability = policy != null && policy.getMinSuccessProbability() != null
+                ? policy.getMinSuccessProbability()
+                : retryable.minSuccessProbability();
+        AttemptStatistics statistics = adaptive ? attemptStatistics(method(joinPoint)) : null;
         Class<? extends Throwable>[] retryExceptions = retryable.retryOn();
+        BatchRetryState.BatchParameter batchParameter = batchParameters.computeIfAbsent(
+                method(joinPoint), this::findBatchParameter);
+        BatchRetryState batch = batchParameter != NO_BATCH
+                ? new BatchRetryState(batchParameter, joinPoint.getArgs())
+                : null;
 
+        long start = System.nanoTime();
         int attempt = 0;
         Throwable lastException;
 
         do {
             attempt++;
+            RetryAttemptEvent attemptEvent = new RetryAttemptEvent();
+            attemptEvent.begin();
             try {
-                return joinPoint.proceed();
+                Object result = batch != null
+                        ? batch.complete(joinPoint.proceed(batch.getArgs()))
+                        : joinPoint.proceed();
+                attemptEvent.commit(method(joinPoint), attempt, null);
+                if (statistics != null) {
+                    statistics.record(attempt, true);
+                }
+                metrics.onCallFinished(method(joinPoint), attempt, true, System.nanoTime() - start);
+                return result;
             } catch (Throwable e) {
-                lastException = e;
-                if (!shouldRetry(e, retryExceptions)) {
-                    throw e;
+                attemptEvent.commit(method(joinPoint), attempt, e);
+                if (statistics != null) {
+                    statistics.record(attempt, false);
+                }
+                lastException = batch != null ? batch.onFailure(e) : e;
+                Throwable cause = e instanceof PartialBatchFailureException partial && partial.getCause() != null
+                        ? partial.getCause()
+                        : e;
+                if (!shouldRetry(cause, retryExceptions)) {
+                    metrics.onCallFinished(method(joinPoint), attempt, false, System.nanoTime() - start);
+                    throw lastException;
                 }
                 if (attempt < maxAttempts) {
-                    Thread.sleep(backoff);
+                    if (statistics != null && !statistics.shouldRetry(attempt, maxAttempts, minSuccessProbability)) {
+                        metrics.onCallFinished(method(joinPoint), attempt, false, System.nanoTime() - start);
+                        throw lastException;
+                    }
+                    long delay = backoff;
+                    RetryHint hint = hintExtractor.extract(cause);
+                    if (hint != null) {
+                        if (!hint.retry() || hint.delayMs() > maxHintWait) {
+                            metrics.onCallFinished(method(joinPoint), attempt, false, System.nanoTime() - start);
+                            throw lastException;
+                        }
+                        delay = Math.max(backoff, hint.delayMs());
+                    }
+                    RetrySleepEvent sleepEvent = new RetrySleepEvent();
+                    sleepEvent.begin();
+                    sleeper.sleep(delay);
+                    sleepEvent.commit(method(joinPoint), attempt + 1, delay);
                 }
             }
         } while (attempt < maxAttempts);
 
+        metrics.onCallFinished(method(joinPoint), attempt, false, System.nanoTime() - start);
         throw lastException;
     }
 
+    /**
+     * Статистика успеха по номеру попытки для методов с адаптивными повторами, только для чтения.
+     *
+     * @return отображение метода на статистику
+     */
+    public Map<Method, AttemptStatistics> getAttemptStatistics() {
+        return Collections.unmodifiableMap(attemptStatistics);
+    }
+
+    private AttemptStatistics attemptStatistics(Method method) {
+        AttemptStatistics statistics = attemptStatistics.get(method);
+        if (statistics == null) {
+            statistics = attemptStatistics.computeIfAbsent(method, m -> new AttemptStatistics());
+        }
+        return statistics;
+    }
+
+    private Method method(ProceedingJoinPoint joinPoint) {
+        return ((MethodSignature) joinPoint.getSignature()).getMethod();
+    }
+
+    private BatchRetryState.BatchParameter findBatchParameter(Method method) {
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            BatchItems batchItems = parameters[i].getAnnotation(BatchItems.class);
+            if (batchItems != null) {
+                if (!Collection.class.isAssignableFrom(parameters[i].getType())
+                        || !Map.class.isAssignableFrom(method.getReturnType())) {
+                    throw new IllegalStateException(
+                            "@BatchItems requires a Collection parameter and a Map return type: " + method);
+                }
+                return new BatchRetryState.BatchParameter(i, parameters[i].getType(), batchItems.retryMissing());
+            }
+        }
+        return NO_BATCH;
+    }
+
     /**
      * Проверяет необходимость повтора на основе типа исключения.
      *
      * @param error           возникшее исключение
      * @param retryExceptions массив классов исключений для повтора
-     * @return true если исключение входит в список разрешенных для повтора
+     * @return true если исключение входит в список разрешенных для повтора; отказ bulkhead - только если
+     * в списке явно указан его класс
      * @see Arrays#stream(Object[])
      * @see Class#isAssignableFrom(Class)
      */
     private boolean shouldRetry(Throwable error, Class<? extends Throwable>[] retryExceptions) {
+        boolean rejection = BulkheadRejections.isRejection(error);
         return Arrays.stream(retryExceptions)
-                .anyMatch(exClass -> exClass.isAssignableFrom(error.getClass()));
+                .anyMatch(exClass -> exClass.isAssignableFrom(error.getClass())
+                        && (!rejection || BulkheadRejections.isRejectionType(exClass)));
     }
 
 }
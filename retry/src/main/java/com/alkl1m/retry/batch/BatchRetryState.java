@@ -0,0 +1,123 @@
+package com.alkl1m.retry.batch;
+
+import com.alkl1m.retry.annotation.BatchItems;
+import com.alkl1m.retry.exception.PartialBatchFailureException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Состояние пакетного повтора одного вызова.
+ * <p>
+ * Хранит объединенные результаты попыток и элементы, которые еще нужно отправить. Перед каждой
+ * повторной попыткой аргумент с {@link BatchItems} заменяется на коллекцию оставшихся элементов
+ * того же вида ({@link List}, {@link Set} или {@link Collection}), поэтому каждая попытка
+ * отправляет меньше элементов, чем предыдущая.
+ *
+ * @author AlKl1M
+ */
+public class BatchRetryState {
+
+    private final int itemsIndex;
+    private final Class<?> itemsType;
+    private final boolean retryMissing;
+    private final Object[] args;
+    private final Map<Object, Object> results = new LinkedHashMap<>();
+    private Collection<?> pending;
+
+    public BatchRetryState(BatchParameter parameter, Object[] args) {
+        this.itemsIndex = parameter.index();
+        this.itemsType = parameter.type();
+        this.retryMissing = parameter.retryMissing();
+        this.args = args.clone();
+        this.pending = (Collection<?>) args[itemsIndex];
+    }
+
+    /**
+     * @return аргументы для следующей попытки
+     */
+    public Object[] getArgs() {
+        return args;
+    }
+
+    /**
+     * Принимает результат успешной попытки.
+     *
+     * @param result отображение элемента на результат
+     * @return объединенный результат всех попыток
+     * @throws PartialBatchFailureException если включен {@link BatchItems#retryMissing()}
+     *                                      и для части элементов нет результата
+     */
+    public Object complete(Object result) {
+        Map<?, ?> map = (Map<?, ?>) result;
+        if (retryMissing && map != null) {
+            List<Object> missing = new ArrayList<>();
+            for (Object item : pending) {
+                if (!map.containsKey(item)) {
+                    missing.add(item);
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new PartialBatchFailureException(map, missing, null);
+            }
+        }
+        if (results.isEmpty()) {
+            return result;
+        }
+        if (map != null) {
+            results.putAll(map);
+        }
+        return results;
+    }
+
+    /**
+     * Принимает ошибку попытки. Результаты частичного сбоя объединяются, а аргумент следующей попытки
+     * сокращается до неудачных элементов.
+     *
+     * @param error исключение попытки
+     * @return исключение, которое нужно бросить, если попытки закончатся: исходное, если результатов
+     * еще нет, иначе {@link PartialBatchFailureException} со всеми результатами и оставшимися элементами
+     */
+    public Throwable onFailure(Throwable error) {
+        Throwable cause = error;
+        if (error instanceof PartialBatchFailureException partial) {
+            results.putAll(partial.getSucceeded());
+            pending = partial.getFailed() != null ? partial.getFailed() : remaining();
+            args[itemsIndex] = copyOf(pending);
+            cause = partial.getCause();
+        } else if (results.isEmpty()) {
+            return error;
+        }
+        return new PartialBatchFailureException(new LinkedHashMap<>(results), List.copyOf(pending), cause);
+    }
+
+    private List<Object> remaining() {
+        List<Object> remaining = new ArrayList<>();
+        for (Object item : pending) {
+            if (!results.containsKey(item)) {
+                remaining.add(item);
+            }
+        }
+        return remaining;
+    }
+
+    private Collection<?> copyOf(Collection<?> items) {
+        return Set.class.isAssignableFrom(itemsType) ? new LinkedHashSet<>(items) : new ArrayList<>(items);
+    }
+
+    /**
+     * Описание аргумента с {@link BatchItems}, вычисляется один раз на метод.
+     *
+     * @param index        индекс аргумента
+     * @param type         объявленный тип аргумента
+     * @param retryMissing повторять ли элементы, отсутствующие в результате
+     */
+    public record BatchParameter(int index, Class<?> type, boolean retryMissing) {
+    }
+
+}
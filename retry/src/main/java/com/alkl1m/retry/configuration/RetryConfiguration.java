@@ -1,15 +1,140 @@
 package com.alkl1m.retry.configuration;
 
+import com.alkl1m.retry.aot.RetryRuntimeHints;
 import com.alkl1m.retry.aspect.RetryAspect;
-import org.springframework.cache.annotation.CacheConfig;
+import com.alkl1m.retry.endpoint.RetriesEndpoint;
+import com.alkl1m.retry.hint.CompositeRetryHintExtractor;
+import com.alkl1m.retry.hint.RestClientRetryHintExtractor;
+import com.alkl1m.retry.hint.RetryHintExtractor;
+import com.alkl1m.retry.hint.WebClientRetryHintExtractor;
+import com.alkl1m.retry.metrics.MicrometerRetryMetrics;
+import com.alkl1m.retry.metrics.RetryMetrics;
+import com.alkl1m.time.Sleeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.Aspects;
+import org.aspectj.lang.NoAspectBoundException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
-@CacheConfig
+/**
+ * Класс автоконфигурации.
+ * <p>
+ * В режиме прокси ({@code resilience.aop.mode=proxy}, по умолчанию) аспект создается как Spring-бин.
+ * В режиме {@code aspectj} Spring-прокси не создаются: аспект вплетается ajc или агентом load-time weaving
+ * по {@code META-INF/aop.xml}, и его единственный экземпляр создается самим AspectJ через конструктор
+ * без аргументов. Автоконфигурация берет его из {@code Aspects.aspectOf}, передает политики,
+ * метрики, извлекатели подсказок и {@link Sleeper} через {@code configure} и регистрирует как бин.
+ * Если аспект не вплетен, контекст не запускается.
+ * <p>
+ * Метрики публикуются, если в контексте есть {@link MeterRegistry} и не задано
+ * {@code resilience.metrics.enabled=false}. Иначе аспект использует {@link RetryMetrics#NOOP}.
+ * При наличии Actuator регистрируется эндпоинт {@code retries} со статистикой адаптивных повторов.
+ * <p>
+ * Именованные политики ({@code resilience.retry.<name>.*}) задаются в {@link RetryProperties}.
+ * <p>
+ * Все бины {@link RetryHintExtractor} опрашиваются аспектом по порядку. Встроенные извлекатели
+ * для {@code RestTemplate}/{@code RestClient} и {@code WebClient} (при наличии spring-webflux)
+ * регистрируются, если приложение не объявило свои бины того же типа.
+ * <p>
+ * Паузы между попытками выдерживаются бином {@link Sleeper}, если он объявлен (например, виртуальное
+ * время в тестах), иначе {@link Sleeper#SYSTEM}.
+ *
+ * @author AlKl1M
+ */
+@Configuration
+@EnableConfigurationProperties(RetryProperties.class)
+@ImportRuntimeHints(RetryRuntimeHints.class)
 public class RetryConfiguration {
 
     @Bean
-    public RetryAspect retryAspect() {
-        return new RetryAspect();
+    @ConditionalOnProperty(prefix = "resilience.aop", name = "mode", havingValue = "proxy", matchIfMissing = true)
+    public RetryAspect retryAspect(RetryProperties properties,
+                                   ObjectProvider<RetryMetrics> metrics,
+                                   ObjectProvider<RetryHintExtractor> hintExtractors,
+                                   ObjectProvider<Sleeper> sleeper) {
+        return new RetryAspect(properties,
+                metrics.getIfAvailable(() -> RetryMetrics.NOOP),
+                new CompositeRetryHintExtractor(hintExtractors.orderedStream().toList()),
+                sleeper.getIfAvailable(() -> Sleeper.SYSTEM));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "resilience.aop", name = "mode", havingValue = "aspectj")
+    static class RetryAspectJConfiguration {
+
+        @Bean
+        public RetryAspect retryAspect(RetryProperties properties,
+                                       ObjectProvider<RetryMetrics> metrics,
+                                       ObjectProvider<RetryHintExtractor> hintExtractors,
+                                       ObjectProvider<Sleeper> sleeper) {
+            RetryAspect aspect = wovenAspect();
+            aspect.configure(properties,
+                    metrics.getIfAvailable(() -> RetryMetrics.NOOP),
+                    new CompositeRetryHintExtractor(hintExtractors.orderedStream().toList()),
+                    sleeper.getIfAvailable(() -> Sleeper.SYSTEM));
+            return aspect;
+        }
+
+        private static RetryAspect wovenAspect() {
+            try {
+                return Aspects.aspectOf(RetryAspect.class);
+            } catch (NoAspectBoundException e) {
+                throw new IllegalStateException("resilience.aop.mode=aspectj, but RetryAspect is not woven: "
+                        + "compile with ajc or start the JVM with -javaagent:aspectjweaver.jar", e);
+            }
+        }
+
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RestClientRetryHintExtractor restClientRetryHintExtractor() {
+        return new RestClientRetryHintExtractor();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.web.reactive.function.client.WebClientResponseException")
+    static class WebClientRetryHintConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public WebClientRetryHintExtractor webClientRetryHintExtractor() {
+            return new WebClientRetryHintExtractor();
+        }
+
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "resilience.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class RetryMetricsConfiguration {
+
+        @Bean
+        public RetryMetrics retryMetrics(ObjectProvider<MeterRegistry> registry) {
+            MeterRegistry meterRegistry = registry.getIfAvailable();
+            return meterRegistry != null ? new MicrometerRetryMetrics(meterRegistry) : RetryMetrics.NOOP;
+        }
+
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class RetryEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnAvailableEndpoint
+        public RetriesEndpoint retriesEndpoint(RetryAspect retryAspect) {
+            return new RetriesEndpoint(retryAspect);
+        }
+
     }
 
 }
@@ -0,0 +1,108 @@
+package com.alkl1m.retry.configuration;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Именованные политики повторов, переопределяющие значения из аннотации {@link com.alkl1m.retry.annotation.Retryable}.
+ * <pre>
+ * resilience.retry.payments.max-attempts=2
+ * resilience.retry.payments.backoff=200
+ * resilience.retry.payments.max-hint-wait=5000
+ * resilience.retry.payments.adaptive=true
+ * resilience.retry.payments.min-success-probability=0.2
+ * </pre>
+ * Политики неизменяемы, при привязке свойств заменяется все отображение целиком, поэтому аспект,
+ * читающий политику на каждом вызове, всегда видит согласованный набор значений.
+ * <p>
+ * Сама библиотека свойства не перепривязывает. Изменение на лету требует внешнего механизма,
+ * например {@code ConfigurationPropertiesRebinder} из Spring Cloud Context
+ * ({@code /actuator/refresh}), тогда новые значения действуют со следующего вызова. Если из
+ * конфигурации удален весь раздел {@code resilience.retry}, привязка его не затрагивает
+ * и прежние политики остаются в силе.
+ *
+ * @author AlKl1M
+ */
+@ConfigurationProperties("resilience")
+public class RetryProperties {
+
+    private volatile Map<String, Policy> retry = Map.of();
+
+    /**
+     * Возвращает политику по имени.
+     *
+     * @param name имя из аннотации
+     * @return политика или null, если для имени ничего не задано
+     */
+    public Policy policy(String name) {
+        return name.isEmpty() ? null : retry.get(name);
+    }
+
+    /**
+     * Заменяет набор политик целиком.
+     *
+     * @param retry политики по имени
+     */
+    public void setRetry(Map<String, Policy> retry) {
+        this.retry = Map.copyOf(retry);
+    }
+
+    @Getter
+    public static class Policy {
+
+        /**
+         * Максимальное количество попыток, включая первую.
+         */
+        private final Integer maxAttempts;
+
+        /**
+         * Пауза между попытками в миллисекундах.
+         */
+        private final Long backoff;
+
+        /**
+         * Максимальная пауза по подсказке сервера в миллисекундах.
+         */
+        private final Long maxHintWait;
+
+        /**
+         * Прекращать ли повторы по наблюдаемой вероятности успеха оставшихся попыток.
+         */
+        private final Boolean adaptive;
+
+        /**
+         * Порог вероятности успеха оставшихся попыток для адаптивного режима.
+         */
+        private final Double minSuccessProbability;
+
+        /**
+         * @throws IllegalArgumentException если число попыток не положительно, паузы отрицательны
+         *                                  или порог вероятности вне отрезка [0, 1]
+         */
+        public Policy(Integer maxAttempts, Long backoff, Long maxHintWait, Boolean adaptive,
+                      Double minSuccessProbability) {
+            if (maxAttempts != null && maxAttempts <= 0) {
+                throw new IllegalArgumentException("max-attempts must be positive: " + maxAttempts);
+            }
+            if (backoff != null && backoff < 0) {
+                throw new IllegalArgumentException("backoff must not be negative: " + backoff);
+            }
+            if (maxHintWait != null && maxHintWait < 0) {
+                throw new IllegalArgumentException("max-hint-wait must not be negative: " + maxHintWait);
+            }
+            if (minSuccessProbability != null && !(minSuccessProbability >= 0 && minSuccessProbability <= 1)) {
+                throw new IllegalArgumentException(
+                        "min-success-probability must be between 0 and 1: " + minSuccessProbability);
+            }
+            this.maxAttempts = maxAttempts;
+            this.backoff = backoff;
+            this.maxHintWait = maxHintWait;
+            this.adaptive = adaptive;
+            this.minSuccessProbability = minSuccessProbability;
+        }
+
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.alkl1m.retry.endpoint;
+
+import com.alkl1m.retry.adaptive.AttemptStatistics;
+import com.alkl1m.retry.aspect.RetryAspect;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Actuator-эндпоинт {@code /actuator/retries}: статистика успеха по номеру попытки
+ * для методов с адаптивными повторами.
+ * <p>
+ * Ключ - полная сигнатура метода ({@link java.lang.reflect.Method#toGenericString()}) с типами
+ * параметров, поэтому перегруженные методы не перезаписывают статистику друг друга.
+ *
+ * @author AlKl1M
+ */
+@Endpoint(id = "retries")
+public class RetriesEndpoint {
+
+    private final RetryAspect retryAspect;
+
+    public RetriesEndpoint(RetryAspect retryAspect) {
+        this.retryAspect = retryAspect;
+    }
+
+    @ReadOperation
+    public Map<String, List<AttemptDescriptor>> retries() {
+        Map<String, List<AttemptDescriptor>> descriptors = new TreeMap<>();
+        retryAspect.getAttemptStatistics().forEach((method, statistics) -> descriptors.put(
+                method.toGenericString(), AttemptDescriptor.of(statistics)));
+        return descriptors;
+    }
+
+    /**
+     * Снимок статистики одной попытки.
+     *
+     * @param attempt            номер попытки
+     * @param tries              затухающее количество выполненных попыток
+     * @param successes          затухающее количество успешных попыток
+     * @param successProbability оценка вероятности успеха попытки
+     */
+    public record AttemptDescriptor(int attempt, double tries, double successes, double successProbability) {
+
+        static List<AttemptDescriptor> of(AttemptStatistics statistics) {
+            List<AttemptDescriptor> attempts = new ArrayList<>();
+            for (int attempt = 1; attempt <= AttemptStatistics.MAX_TRACKED_ATTEMPTS; attempt++) {
+                double tries = statistics.getTries(attempt);
+                if (tries > 0) {
+                    attempts.add(new AttemptDescriptor(attempt, tries, statistics.getSuccesses(attempt),
+                            statistics.successProbability(attempt)));
+                }
+            }
+            return attempts;
+        }
+
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.alkl1m.retry.exception;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Частичный сбой пакетного вызова: результаты для части элементов получены, остальные элементы не обработаны.
+ * <p>
+ * Бросается методом с {@link com.alkl1m.retry.annotation.BatchItems}, чтобы повтор отправил только
+ * {@link #getFailed()}. Если попытки исчерпаны, аспект бросает это же исключение с объединенными
+ * результатами всех попыток и оставшимися элементами.
+ *
+ * @author AlKl1M
+ */
+@Getter
+public class PartialBatchFailureException extends RuntimeException {
+
+    private final Map<?, ?> succeeded;
+    private final Collection<?> failed;
+
+    public PartialBatchFailureException(Map<?, ?> succeeded, Collection<?> failed, Throwable cause) {
+        super("Batch partially failed: " + failed.size() + " item(s) failed, "
+                + succeeded.size() + " item(s) succeeded", cause);
+        this.succeeded = succeeded;
+        this.failed = failed;
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.alkl1m.retry.hint;
+
+import java.util.List;
+
+/**
+ * Опрашивает несколько {@link RetryHintExtractor} по порядку и возвращает первую непустую подсказку.
+ *
+ * @author AlKl1M
+ */
+public class CompositeRetryHintExtractor implements RetryHintExtractor {
+
+    private final List<RetryHintExtractor> extractors;
+
+    public CompositeRetryHintExtractor(List<RetryHintExtractor> extractors) {
+        this.extractors = List.copyOf(extractors);
+    }
+
+    @Override
+    public RetryHint extract(Throwable error) {
+        for (RetryHintExtractor extractor : extractors) {
+            RetryHint hint = extractor.extract(error);
+            if (hint != null) {
+                return hint;
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.alkl1m.retry.hint;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Базовый извлекатель подсказок из HTTP-ответа.
+ * <p>
+ * Правила:
+ * <ul>
+ *   <li>заголовок {@code Retry-After} (секунды или HTTP-дата) задает минимальную паузу</li>
+ *   <li>ошибки клиента 4xx, кроме 408, 425 и 429, не повторяются: повтор того же запроса
+ *   даст тот же ответ</li>
+ *   <li>в остальных случаях подсказки нет, действует обычный backoff</li>
+ * </ul>
+ *
+ * @param <E> тип исключения HTTP-клиента
+ * @author AlKl1M
+ */
+public abstract class HttpRetryHintExtractor<E extends Throwable> implements RetryHintExtractor {
+
+    private final Class<E> exceptionType;
+
+    protected HttpRetryHintExtractor(Class<E> exceptionType) {
+        this.exceptionType = exceptionType;
+    }
+
+    @Override
+    public RetryHint extract(Throwable error) {
+        if (!exceptionType.isInstance(error)) {
+            return null;
+        }
+        E exception = exceptionType.cast(error);
+        return hint(statusCode(exception), headers(exception));
+    }
+
+    protected abstract HttpStatusCode statusCode(E exception);
+
+    protected abstract HttpHeaders headers(E exception);
+
+    private RetryHint hint(HttpStatusCode status, HttpHeaders headers) {
+        String retryAfter = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (retryAfter != null) {
+            Long delayMs = parseRetryAfter(retryAfter.trim());
+            if (delayMs != null) {
+                return RetryHint.after(delayMs);
+            }
+        }
+        if (status.is4xxClientError() && !isRetryableClientError(status)) {
+            return RetryHint.NO_RETRY;
+        }
+        return null;
+    }
+
+    private boolean isRetryableClientError(HttpStatusCode status) {
+        return status.isSameCodeAs(HttpStatus.REQUEST_TIMEOUT)
+                || status.isSameCodeAs(HttpStatus.TOO_EARLY)
+                || status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    /**
+     * Разбирает значение {@code Retry-After} (RFC 9110, раздел 10.2.3).
+     *
+     * @param value delay-seconds или HTTP-дата
+     * @return пауза в миллисекундах или null, если значение не распознано
+     */
+    static Long parseRetryAfter(String value) {
+        if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+            try {
+                return Math.multiplyExact(Long.parseLong(value), 1000L);
+            } catch (ArithmeticException | NumberFormatException e) {
+                return Long.MAX_VALUE;
+            }
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, date.toInstant().toEpochMilli() - System.currentTimeMillis());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+}
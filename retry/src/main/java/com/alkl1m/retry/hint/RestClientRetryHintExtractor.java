@@ -0,0 +1,29 @@
+package com.alkl1m.retry.hint;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Подсказки из ответов {@code RestTemplate} и {@code RestClient}
+ * ({@link RestClientResponseException}, в том числе {@code HttpStatusCodeException}).
+ *
+ * @author AlKl1M
+ */
+public class RestClientRetryHintExtractor extends HttpRetryHintExtractor<RestClientResponseException> {
+
+    public RestClientRetryHintExtractor() {
+        super(RestClientResponseException.class);
+    }
+
+    @Override
+    protected HttpStatusCode statusCode(RestClientResponseException exception) {
+        return exception.getStatusCode();
+    }
+
+    @Override
+    protected HttpHeaders headers(RestClientResponseException exception) {
+        return exception.getResponseHeaders();
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.alkl1m.retry.hint;
+
+/**
+ * Подсказка сервера о следующей попытке.
+ *
+ * @param retry   можно ли повторять вызов
+ * @param delayMs минимальная пауза перед следующей попыткой в миллисекундах
+ * @author AlKl1M
+ */
+public record RetryHint(boolean retry, long delayMs) {
+
+    public static final RetryHint NO_RETRY = new RetryHint(false, 0);
+
+    /**
+     * @param delayMs минимальная пауза перед следующей попыткой в миллисекундах
+     * @return подсказка повторить вызов не раньше чем через {@code delayMs}
+     */
+    public static RetryHint after(long delayMs) {
+        return new RetryHint(true, Math.max(0, delayMs));
+    }
+
+}
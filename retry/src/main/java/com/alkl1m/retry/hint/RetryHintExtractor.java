@@ -0,0 +1,23 @@
+package com.alkl1m.retry.hint;
+
+/**
+ * Извлекает из исключения подсказку сервера о следующей попытке,
+ * например заголовок {@code Retry-After} ответа 429 или 503.
+ * <p>
+ * Реализации регистрируются как Spring-бины и опрашиваются по порядку
+ * ({@link org.springframework.core.Ordered}) до первой непустой подсказки.
+ *
+ * @author AlKl1M
+ */
+@FunctionalInterface
+public interface RetryHintExtractor {
+
+    RetryHintExtractor NONE = error -> null;
+
+    /**
+     * @param error исключение последней попытки
+     * @return подсказка или null, если исключение ничего не сообщает
+     */
+    RetryHint extract(Throwable error);
+
+}
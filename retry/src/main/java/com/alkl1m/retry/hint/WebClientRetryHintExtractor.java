@@ -0,0 +1,29 @@
+package com.alkl1m.retry.hint;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Подсказки из ответов {@code WebClient} ({@link WebClientResponseException}).
+ * Регистрируется, только если spring-webflux есть в classpath.
+ *
+ * @author AlKl1M
+ */
+public class WebClientRetryHintExtractor extends HttpRetryHintExtractor<WebClientResponseException> {
+
+    public WebClientRetryHintExtractor() {
+        super(WebClientResponseException.class);
+    }
+
+    @Override
+    protected HttpStatusCode statusCode(WebClientResponseException exception) {
+        return exception.getStatusCode();
+    }
+
+    @Override
+    protected HttpHeaders headers(WebClientResponseException exception) {
+        return exception.getHeaders();
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.alkl1m.retry.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.lang.reflect.Method;
+
+/**
+ * JFR-событие одной попытки выполнения метода с {@link com.alkl1m.retry.annotation.Retryable}.
+ * Длительность события - время выполнения попытки.
+ * <p>
+ * Пока запись JFR не ведется, {@link #shouldCommit()} возвращает false и поля не заполняются.
+ *
+ * @author AlKl1M
+ */
+@Name("com.alkl1m.retry.Attempt")
+@Label("Retry Attempt")
+@Category({"Resilience", "Retry"})
+@Description("Single attempt of a retryable method")
+@StackTrace(false)
+public class RetryAttemptEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Successful")
+    boolean successful;
+
+    @Label("Cause")
+    Class<?> cause;
+
+    @Label("Cause Message")
+    String causeMessage;
+
+    /**
+     * Завершает событие, если оно должно быть записано.
+     *
+     * @param method  метод
+     * @param attempt номер попытки, начиная с 1
+     * @param failure ошибка попытки или null при успехе
+     */
+    public void commit(Method method, int attempt, Throwable failure) {
+        end();
+        if (shouldCommit()) {
+            this.method = method.getDeclaringClass().getName() + "#" + method.getName();
+            this.attempt = attempt;
+            this.successful = failure == null;
+            if (failure != null) {
+                this.cause = failure.getClass();
+                this.causeMessage = failure.getMessage();
+            }
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.alkl1m.retry.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.lang.reflect.Method;
+
+/**
+ * JFR-событие паузы между попытками. Длительность события - фактическое время паузы.
+ *
+ * @author AlKl1M
+ */
+@Name("com.alkl1m.retry.Sleep")
+@Label("Retry Sleep")
+@Category({"Resilience", "Retry"})
+@Description("Backoff pause before the next attempt")
+@StackTrace(false)
+public class RetrySleepEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Next Attempt")
+    int nextAttempt;
+
+    @Label("Planned Backoff")
+    @Timespan(Timespan.MILLISECONDS)
+    long backoff;
+
+    /**
+     * Завершает событие, если оно должно быть записано.
+     *
+     * @param method      метод
+     * @param nextAttempt номер следующей попытки
+     * @param backoff     запланированная пауза в миллисекундах
+     */
+    public void commit(Method method, int nextAttempt, long backoff) {
+        end();
+        if (shouldCommit()) {
+            this.method = method.getDeclaringClass().getName() + "#" + method.getName();
+            this.nextAttempt = nextAttempt;
+            this.backoff = backoff;
+            commit();
+        }
+    }
+
+}
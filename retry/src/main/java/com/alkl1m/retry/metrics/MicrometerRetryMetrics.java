@@ -0,0 +1,99 @@
+package com.alkl1m.retry.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Метрики повторов, публикуемые через Micrometer.
+ * <p>
+ * На горячем пути только инкременты {@link LongAdder}, запись в {@link Timer} и чтение
+ * из {@link ConcurrentHashMap} по ключу {@link Method}, без аллокаций. Метры регистрируются
+ * в {@link MeterRegistry} один раз на метод:
+ * <ul>
+ *   <li>{@code resilience.retry.calls{method, signature, result}} - вызовы по результату</li>
+ *   <li>{@code resilience.retry.attempts{method, signature}} - все попытки, отношение к calls дает среднее число попыток</li>
+ *   <li>{@code resilience.retry.duration{method, signature, result}} - длительность вызова с паузами между попытками</li>
+ * </ul>
+ *
+ * @author AlKl1M
+ */
+public class MicrometerRetryMetrics implements RetryMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public MicrometerRetryMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onCallFinished(Method method, int attempts, boolean successful, long durationNanos) {
+        MethodMeters methodMeters = meters.get(method);
+        if (methodMeters == null) {
+            methodMeters = meters.computeIfAbsent(method, this::register);
+        }
+        if (successful) {
+            methodMeters.successfulCalls.increment();
+            methodMeters.successfulDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+        } else {
+            methodMeters.failedCalls.increment();
+            methodMeters.failedDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+        methodMeters.attempts.add(attempts);
+    }
+
+    private MethodMeters register(Method method) {
+        Tags tags = tags(method);
+        MethodMeters methodMeters = new MethodMeters(duration(tags, "success"), duration(tags, "failure"));
+        FunctionCounter.builder("resilience.retry.calls", methodMeters.successfulCalls, LongAdder::sum)
+                .tags(tags)
+                .tag("result", "success")
+                .description("Calls that eventually succeeded")
+                .register(registry);
+        FunctionCounter.builder("resilience.retry.calls", methodMeters.failedCalls, LongAdder::sum)
+                .tags(tags)
+                .tag("result", "failure")
+                .description("Calls that failed after all attempts or with a non-retryable error")
+                .register(registry);
+        FunctionCounter.builder("resilience.retry.attempts", methodMeters.attempts, LongAdder::sum)
+                .tags(tags)
+                .description("Attempts made, including the first one")
+                .register(registry);
+        return methodMeters;
+    }
+
+    private Timer duration(Tags tags, String result) {
+        return Timer.builder("resilience.retry.duration")
+                .tags(tags)
+                .tag("result", result)
+                .description("Call duration including all attempts and backoff")
+                .register(registry);
+    }
+
+    private static Tags tags(Method method) {
+        return Tags.of("method", method.getDeclaringClass().getName() + "#" + method.getName(),
+                "signature", method.toGenericString());
+    }
+
+    private static final class MethodMeters {
+        private final LongAdder successfulCalls = new LongAdder();
+        private final LongAdder failedCalls = new LongAdder();
+        private final LongAdder attempts = new LongAdder();
+        private final Timer successfulDuration;
+        private final Timer failedDuration;
+
+        private MethodMeters(Timer successfulDuration, Timer failedDuration) {
+            this.successfulDuration = successfulDuration;
+            this.failedDuration = failedDuration;
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.alkl1m.retry.metrics;
+
+import java.lang.reflect.Method;
+
+/**
+ * Точка сбора метрик {@link com.alkl1m.retry.aspect.RetryAspect}.
+ * <p>
+ * Реализация по умолчанию {@link #NOOP} ничего не делает: вызовы пустых методов
+ * встраиваются JIT-компилятором и не стоят ничего, когда метрики выключены.
+ *
+ * @author AlKl1M
+ */
+public interface RetryMetrics {
+
+    RetryMetrics NOOP = new RetryMetrics() {
+    };
+
+    /**
+     * Вызывается по завершении вызова метода, после всех попыток.
+     *
+     * @param method        вызванный метод
+     * @param attempts      число выполненных попыток
+     * @param successful    true если вызов завершился успешно
+     * @param durationNanos длительность вызова со всеми попытками и паузами между ними
+     */
+    default void onCallFinished(Method method, int attempts, boolean successful, long durationNanos) {
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.alkl1m.retry.adaptive;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AttemptStatisticsTest {
+
+    @Test
+    void testSuccessProbability_withoutData_isOneHalf() {
+        AttemptStatistics statistics = new AttemptStatistics();
+
+        assertEquals(0.5, statistics.successProbability(2), 1e-9);
+        assertEquals(0.75, statistics.laterSuccessProbability(1, 3), 1e-9);
+    }
+
+    @Test
+    void testRecord_decaysOldEvents() {
+        AttemptStatistics statistics = new AttemptStatistics(0.5, 0);
+        statistics.record(1, true);
+        statistics.record(1, false);
+
+        assertEquals(1.5, statistics.getTries(1), 1e-6);
+        assertEquals(0.5, statistics.getSuccesses(1), 1e-6);
+    }
+
+    @Test
+    void testShouldRetry_whenLaterAttemptsKeepFailing_thenStops() {
+        AttemptStatistics statistics = new AttemptStatistics(0.99, 0);
+        for (int i = 0; i < 50; i++) {
+            statistics.record(2, false);
+            statistics.record(3, false);
+        }
+
+        assertFalse(statistics.shouldRetry(1, 3, 0.1));
+    }
+
+    @Test
+    void testShouldRetry_whenLaterAttemptsSucceed_thenRetries() {
+        AttemptStatistics statistics = new AttemptStatistics(0.99, 0);
+        for (int i = 0; i < 50; i++) {
+            statistics.record(1, false);
+            statistics.record(2, true);
+        }
+
+        assertTrue(statistics.shouldRetry(1, 3, 0.1));
+    }
+
+    @Test
+    void testShouldRetry_probesEveryIntervalRejection() {
+        AttemptStatistics statistics = new AttemptStatistics(0.99, 3);
+        for (int i = 0; i < 50; i++) {
+            statistics.record(2, false);
+        }
+
+        assertFalse(statistics.shouldRetry(1, 2, 0.1));
+        assertFalse(statistics.shouldRetry(1, 2, 0.1));
+        assertTrue(statistics.shouldRetry(1, 2, 0.1));
+    }
+
+    @Test
+    void testRecord_attemptsBeyondLimitShareLastSlot() {
+        AttemptStatistics statistics = new AttemptStatistics();
+        statistics.record(AttemptStatistics.MAX_TRACKED_ATTEMPTS + 5, true);
+
+        assertEquals(1.0, statistics.getSuccesses(AttemptStatistics.MAX_TRACKED_ATTEMPTS), 1e-6);
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.alkl1m.retry.aspect;
+
+import com.alkl1m.retry.annotation.Retryable;
+import com.alkl1m.retry.configuration.RetryProperties;
+import com.alkl1m.retry.endpoint.RetriesEndpoint;
+import com.alkl1m.retry.hint.RetryHintExtractor;
+import com.alkl1m.retry.metrics.RetryMetrics;
+import com.alkl1m.time.VirtualTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = AdaptiveRetryTest.TestConfig.class)
+@EnableAspectJAutoProxy
+class AdaptiveRetryTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Autowired
+    private RetryAspect retryAspect;
+
+    @BeforeEach
+    void setUp() {
+        testService.resetCounter();
+    }
+
+    @Test
+    void whenLaterAttemptsKeepFailing_thenStopsRetryingEarly() {
+        for (int i = 0; i < 30; i++) {
+            assertThrows(IllegalStateException.class, () -> testService.alwaysFail());
+        }
+        testService.resetCounter();
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalStateException.class, () -> testService.alwaysFail());
+        }
+
+        assertTrue(testService.getCounter() < 30, "attempts: " + testService.getCounter());
+    }
+
+    @Test
+    void whenSecondAttemptSucceeds_thenKeepsRetrying() {
+        for (int i = 0; i < 30; i++) {
+            testService.resetCounter();
+            assertEquals("ok", testService.succeedOnSecond());
+            assertEquals(2, testService.getCounter());
+        }
+    }
+
+    @Test
+    void whenStatisticsRecorded_thenEndpointExposesThemPerOverload() throws NoSuchMethodException {
+        assertEquals("ok", testService.succeedOnSecond());
+        assertEquals("overload", testService.succeedOnSecond("overload"));
+
+        Map<String, List<RetriesEndpoint.AttemptDescriptor>> retries = new RetriesEndpoint(retryAspect).retries();
+
+        List<RetriesEndpoint.AttemptDescriptor> attempts = retries.get(
+                TestService.class.getMethod("succeedOnSecond").toGenericString());
+        assertEquals(1, attempts.get(0).attempt());
+        assertTrue(attempts.get(1).successes() > 0);
+        List<RetriesEndpoint.AttemptDescriptor> overloadAttempts = retries.get(
+                TestService.class.getMethod("succeedOnSecond", String.class).toGenericString());
+        assertEquals(1, overloadAttempts.get(0).attempt());
+        assertTrue(overloadAttempts.get(1).successes() > 0);
+    }
+
+    @Configuration
+    static class TestConfig {
+
+        @Bean
+        public RetryAspect retryAspect() {
+            return new RetryAspect(new RetryProperties(), RetryMetrics.NOOP, RetryHintExtractor.NONE,
+                    new VirtualTime());
+        }
+
+        @Bean
+        public TestService testService() {
+            return new TestService();
+        }
+
+    }
+
+    static class TestService {
+        private int counter = 0;
+
+        @Retryable(maxAttempts = 3, backoff = 10, adaptive = true)
+        public void alwaysFail() {
+            counter++;
+            throw new IllegalStateException("failure");
+        }
+
+        @Retryable(maxAttempts = 3, backoff = 10, adaptive = true)
+        public String succeedOnSecond() {
+            counter++;
+            if (counter % 2 == 1) {
+                throw new IllegalStateException("failure");
+            }
+            return "ok";
+        }
+
+        @Retryable(maxAttempts = 3, backoff = 10, adaptive = true)
+        public String succeedOnSecond(String value) {
+            counter++;
+            if (counter % 2 == 1) {
+                throw new IllegalStateException("failure");
+            }
+            return value;
+        }
+
+        public int getCounter() {
+            return counter;
+        }
+
+        public void resetCounter() {
+            counter = 0;
+        }
+    }
+
+}
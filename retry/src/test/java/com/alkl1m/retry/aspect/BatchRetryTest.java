@@ -0,0 +1,126 @@
+package com.alkl1m.retry.aspect;
+
+import com.alkl1m.retry.annotation.BatchItems;
+import com.alkl1m.retry.annotation.Retryable;
+import com.alkl1m.retry.exception.PartialBatchFailureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = {RetryAspect.class, BatchRetryTest.TestService.class})
+@EnableAspectJAutoProxy
+class BatchRetryTest {
+
+    @Autowired
+    private TestService testService;
+
+    @BeforeEach
+    void setUp() {
+        testService.reset();
+    }
+
+    @Test
+    void whenBatchPartiallyFails_thenRetriesOnlyFailedItemsAndMergesResults() {
+        testService.failOnce(List.of(2, 4));
+
+        Map<Integer, String> result = testService.load(List.of(1, 2, 3, 4));
+
+        assertEquals(Map.of(1, "item-1", 2, "item-2", 3, "item-3", 4, "item-4"), result);
+        assertEquals(List.of(List.of(1, 2, 3, 4), List.of(2, 4)), testService.getRequests());
+    }
+
+    @Test
+    void whenItemsMissingFromResult_thenRetriesMissingItems() {
+        testService.failOnce(List.of(3));
+
+        Map<Integer, String> result = testService.loadOmittingFailed(List.of(1, 2, 3));
+
+        assertEquals(Map.of(1, "item-1", 2, "item-2", 3, "item-3"), result);
+        assertEquals(List.of(List.of(1, 2, 3), List.of(3)), testService.getRequests());
+    }
+
+    @Test
+    void whenAttemptsExhausted_thenThrowsWithMergedResultsAndRemainingItems() {
+        testService.failAlways(List.of(2));
+
+        PartialBatchFailureException exception = assertThrows(PartialBatchFailureException.class,
+                () -> testService.load(List.of(1, 2, 3)));
+
+        assertEquals(Map.of(1, "item-1", 3, "item-3"), exception.getSucceeded());
+        assertEquals(List.of(2), List.copyOf(exception.getFailed()));
+        assertEquals(List.of(List.of(1, 2, 3), List.of(2), List.of(2)), testService.getRequests());
+    }
+
+    @Service
+    static class TestService {
+        private final List<List<Integer>> requests = new ArrayList<>();
+        private List<Integer> failing = List.of();
+        private boolean failAlways;
+
+        @Retryable(maxAttempts = 3, backoff = 10)
+        public Map<Integer, String> load(@BatchItems List<Integer> ids) {
+            requests.add(List.copyOf(ids));
+            Map<Integer, String> succeeded = new HashMap<>();
+            List<Integer> failed = new ArrayList<>();
+            for (Integer id : ids) {
+                if (failing.contains(id)) {
+                    failed.add(id);
+                } else {
+                    succeeded.put(id, "item-" + id);
+                }
+            }
+            if (!failAlways) {
+                failing = List.of();
+            }
+            if (!failed.isEmpty()) {
+                throw new PartialBatchFailureException(succeeded, failed, new IllegalStateException("Timeout"));
+            }
+            return succeeded;
+        }
+
+        @Retryable(maxAttempts = 3, backoff = 10)
+        public Map<Integer, String> loadOmittingFailed(@BatchItems(retryMissing = true) List<Integer> ids) {
+            requests.add(List.copyOf(ids));
+            Map<Integer, String> succeeded = new HashMap<>();
+            for (Integer id : ids) {
+                if (!failing.contains(id)) {
+                    succeeded.put(id, "item-" + id);
+                }
+            }
+            failing = List.of();
+            return succeeded;
+        }
+
+        public void failOnce(List<Integer> ids) {
+            failing = ids;
+            failAlways = false;
+        }
+
+        public void failAlways(List<Integer> ids) {
+            failing = ids;
+            failAlways = true;
+        }
+
+        public List<List<Integer>> getRequests() {
+            return requests;
+        }
+
+        public void reset() {
+            requests.clear();
+            failing = List.of();
+            failAlways = false;
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.alkl1m.retry.aspect;
+
+import com.alkl1m.retry.annotation.Retryable;
+import com.alkl1m.retry.configuration.RetryConfiguration;
+import com.alkl1m.retry.endpoint.RetriesEndpoint;
+import com.alkl1m.time.VirtualTime;
+import org.aspectj.lang.Aspects;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Запускается отдельным прогоном surefire с агентом aspectjweaver (см. pom.xml).
+ */
+@SpringBootTest(classes = RetryAspectWovenTest.TestConfig.class, properties = "resilience.aop.mode=aspectj")
+class RetryAspectWovenTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Autowired
+    private RetryAspect retryAspect;
+
+    @Autowired
+    private VirtualTime time;
+
+    @BeforeEach
+    void setUp() {
+        testService.resetCounter();
+    }
+
+    @Test
+    void whenWoven_thenAdviceRunsWithoutSpringProxy() {
+        assertFalse(AopUtils.isAopProxy(testService));
+        assertSame(Aspects.aspectOf(RetryAspect.class), retryAspect);
+
+        assertThrows(IllegalStateException.class, () -> testService.fail());
+        assertEquals(3, testService.getCounter());
+    }
+
+    @Test
+    void whenWoven_thenAspectUsesContextDependencies() {
+        long start = time.nanoTime();
+
+        assertThrows(IllegalStateException.class, () -> testService.fail());
+
+        assertEquals(Duration.ofMillis(2 * 100).toNanos(), time.nanoTime() - start);
+        assertTrue(new RetriesEndpoint(retryAspect).retries().keySet().stream()
+                .anyMatch(key -> key.contains("fail")));
+    }
+
+    @Configuration
+    @Import(RetryConfiguration.class)
+    static class TestConfig {
+
+        @Bean
+        public VirtualTime virtualTime() {
+            return new VirtualTime();
+        }
+
+        @Bean
+        public TestService testService() {
+            return new TestService();
+        }
+
+    }
+
+    static class TestService {
+        private int counter = 0;
+
+        @Retryable(maxAttempts = 3, backoff = 100, adaptive = true)
+        public void fail() {
+            counter++;
+            throw new IllegalStateException("failure");
+        }
+
+        public int getCounter() {
+            return counter;
+        }
+
+        public void resetCounter() {
+            counter = 0;
+        }
+    }
+
+}
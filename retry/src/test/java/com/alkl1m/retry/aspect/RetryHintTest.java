@@ -0,0 +1,116 @@
+package com.alkl1m.retry.aspect;
+
+import com.alkl1m.retry.annotation.Retryable;
+import com.alkl1m.retry.configuration.RetryProperties;
+import com.alkl1m.retry.hint.RestClientRetryHintExtractor;
+import com.alkl1m.retry.metrics.RetryMetrics;
+import com.alkl1m.time.VirtualTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = RetryHintTest.TestConfig.class)
+@EnableAspectJAutoProxy
+class RetryHintTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Autowired
+    private VirtualTime time;
+
+    @BeforeEach
+    void setUp() {
+        testService.resetCounter();
+    }
+
+    @Test
+    void whenRetryAfterExceedsBackoff_thenWaitsForRetryAfter() {
+        long start = time.nanoTime();
+        assertThrows(HttpClientErrorException.class,
+                () -> testService.fail(HttpStatus.TOO_MANY_REQUESTS, "3"));
+
+        assertEquals(2, testService.getCounter());
+        assertEquals(Duration.ofSeconds(3).toNanos(), time.nanoTime() - start);
+    }
+
+    @Test
+    void whenRetryAfterExceedsMaxHintWait_thenFailsFast() {
+        assertThrows(HttpServerErrorException.class,
+                () -> testService.fail(HttpStatus.SERVICE_UNAVAILABLE, "30"));
+        assertEquals(1, testService.getCounter());
+    }
+
+    @Test
+    void whenClientErrorIsNotRetryable_thenNoRetry() {
+        assertThrows(HttpClientErrorException.class, () -> testService.fail(HttpStatus.BAD_REQUEST, null));
+        assertEquals(1, testService.getCounter());
+    }
+
+    @Test
+    void whenNoHint_thenRetriesWithBackoff() {
+        assertThrows(HttpServerErrorException.class,
+                () -> testService.fail(HttpStatus.INTERNAL_SERVER_ERROR, null));
+        assertEquals(2, testService.getCounter());
+    }
+
+    @Configuration
+    static class TestConfig {
+
+        @Bean
+        public VirtualTime virtualTime() {
+            return new VirtualTime();
+        }
+
+        @Bean
+        public RetryAspect retryAspect(VirtualTime virtualTime) {
+            return new RetryAspect(new RetryProperties(), RetryMetrics.NOOP, new RestClientRetryHintExtractor(),
+                    virtualTime);
+        }
+
+        @Bean
+        public TestService testService() {
+            return new TestService();
+        }
+
+    }
+
+    static class TestService {
+        private int counter = 0;
+
+        @Retryable(maxAttempts = 2, backoff = 10, maxHintWait = 5000)
+        public void fail(HttpStatus status, String retryAfter) {
+            counter++;
+            HttpHeaders headers = new HttpHeaders();
+            if (retryAfter != null) {
+                headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+            }
+            if (status.is4xxClientError()) {
+                throw HttpClientErrorException.create(status, status.getReasonPhrase(), headers, null, null);
+            }
+            throw HttpServerErrorException.create(status, status.getReasonPhrase(), headers, null, null);
+        }
+
+        public int getCounter() {
+            return counter;
+        }
+
+        public void resetCounter() {
+            counter = 0;
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.alkl1m.retry.configuration;
+
+import com.alkl1m.retry.aspect.RetryAspect;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(RetryConfiguration.class));
+
+    @Test
+    void whenProxyMode_thenRegistersAspectBean() {
+        contextRunner.run(context -> assertThat(context).hasSingleBean(RetryAspect.class));
+    }
+
+    @Test
+    void whenAspectJModeWithoutWeaving_thenFailsFast() {
+        contextRunner.withPropertyValues("resilience.aop.mode=aspectj")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure()
+                        .hasStackTraceContaining("IllegalStateException")
+                        .hasStackTraceContaining("RetryAspect is not woven"));
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.alkl1m.retry.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RetryPropertiesTest {
+
+    @Test
+    void testRebind_replacesPoliciesAndDropsRemovedOnes() {
+        RetryProperties properties = new RetryProperties();
+        bind(properties, Map.of(
+                "resilience.retry.payments.max-attempts", "2",
+                "resilience.retry.orders.backoff", "50"));
+        RetryProperties.Policy payments = properties.policy("payments");
+
+        assertEquals(2, payments.getMaxAttempts());
+        assertNull(payments.getBackoff());
+        assertEquals(50L, properties.policy("orders").getBackoff());
+
+        bind(properties, Map.of("resilience.retry.payments.max-attempts", "5"));
+
+        assertEquals(2, payments.getMaxAttempts());
+        assertNotSame(payments, properties.policy("payments"));
+        assertEquals(5, properties.policy("payments").getMaxAttempts());
+        assertNull(properties.policy("orders"));
+    }
+
+    @Test
+    void testBind_whenValueOutOfRange_fails() {
+        assertThrows(BindException.class, () -> bind(new RetryProperties(),
+                Map.of("resilience.retry.payments.max-attempts", "0")));
+        assertThrows(BindException.class, () -> bind(new RetryProperties(),
+                Map.of("resilience.retry.payments.backoff", "-1")));
+        assertThrows(BindException.class, () -> bind(new RetryProperties(),
+                Map.of("resilience.retry.payments.min-success-probability", "1.5")));
+    }
+
+    private static void bind(RetryProperties properties, Map<String, String> source) {
+        new Binder(new MapConfigurationPropertySource(source))
+                .bind("resilience", Bindable.ofInstance(properties));
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.alkl1m.retry.hint;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpRetryHintExtractorTest {
+
+    @Test
+    void testParseRetryAfter_whenDelaySeconds_returnsMillis() {
+        assertEquals(120_000L, HttpRetryHintExtractor.parseRetryAfter("120"));
+        assertEquals(0L, HttpRetryHintExtractor.parseRetryAfter("0"));
+    }
+
+    @Test
+    void testParseRetryAfter_whenHttpDate_returnsDelayUntilDate() {
+        String date = ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(60)
+                .format(DateTimeFormatter.RFC_1123_DATE_TIME);
+
+        long delayMs = HttpRetryHintExtractor.parseRetryAfter(date);
+
+        assertTrue(delayMs > 55_000 && delayMs <= 60_000, "delay " + delayMs);
+        assertEquals(0L, HttpRetryHintExtractor.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+    }
+
+    @Test
+    void testParseRetryAfter_whenMalformed_returnsNull() {
+        assertNull(HttpRetryHintExtractor.parseRetryAfter("soon"));
+        assertNull(HttpRetryHintExtractor.parseRetryAfter(""));
+    }
+
+}
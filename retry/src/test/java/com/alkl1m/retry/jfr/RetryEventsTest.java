@@ -0,0 +1,69 @@
+package com.alkl1m.retry.jfr;
+
+import com.alkl1m.retry.annotation.Retryable;
+import com.alkl1m.retry.aspect.RetryAspect;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = {RetryAspect.class, RetryEventsTest.TestService.class})
+@EnableAspectJAutoProxy
+class RetryEventsTest {
+
+    @Autowired
+    private TestService testService;
+
+    @Test
+    void testRetryEvents_whenSucceedsOnSecondAttempt_recordsAttemptsAndSleep(@TempDir Path tempDir) throws Exception {
+        Path dump = tempDir.resolve("retry.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RetryAttemptEvent.class);
+            recording.enable(RetrySleepEvent.class);
+            recording.start();
+            testService.succeedOnSecondAttempt();
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        List<RecordedEvent> attempts = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.alkl1m.retry.Attempt"))
+                .toList();
+        List<RecordedEvent> sleeps = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.alkl1m.retry.Sleep"))
+                .toList();
+
+        assertEquals(2, attempts.size());
+        assertFalse(attempts.get(0).getBoolean("successful"));
+        assertEquals(IllegalStateException.class.getName(), attempts.get(0).getClass("cause").getName());
+        assertTrue(attempts.get(1).getBoolean("successful"));
+        assertEquals(1, sleeps.size());
+        assertEquals(2, sleeps.get(0).getInt("nextAttempt"));
+    }
+
+    @Service
+    static class TestService {
+        private int counter = 0;
+
+        @Retryable(maxAttempts = 3, backoff = 10)
+        public void succeedOnSecondAttempt() {
+            if (++counter < 2) {
+                throw new IllegalStateException("Simulated error");
+            }
+        }
+    }
+
+}
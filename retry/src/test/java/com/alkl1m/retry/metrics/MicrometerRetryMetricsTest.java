@@ -0,0 +1,127 @@
+package com.alkl1m.retry.metrics;
+
+import com.alkl1m.retry.annotation.Retryable;
+import com.alkl1m.retry.aspect.RetryAspect;
+import com.alkl1m.retry.configuration.RetryProperties;
+import com.alkl1m.retry.hint.RetryHintExtractor;
+import com.alkl1m.time.Sleeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = MicrometerRetryMetricsTest.TestConfig.class)
+@EnableAspectJAutoProxy
+class MicrometerRetryMetricsTest {
+
+    private static final String METHOD = MicrometerRetryMetricsTest.TestService.class.getName() + "#";
+
+    @Autowired
+    private TestService testService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testMetrics_whenSucceedsAfterRetry_countsAttemptsAndSuccess() {
+        testService.succeedOnSecondAttempt();
+
+        assertEquals(1, count("resilience.retry.calls", "succeedOnSecondAttempt", "success"));
+        assertEquals(2, meterRegistry.get("resilience.retry.attempts")
+                .tag("method", METHOD + "succeedOnSecondAttempt").functionCounter().count());
+        Timer duration = meterRegistry.get("resilience.retry.duration")
+                .tag("method", METHOD + "succeedOnSecondAttempt").tag("result", "success").timer();
+        assertEquals(1, duration.count());
+        assertTrue(duration.totalTime(TimeUnit.MILLISECONDS) >= 10);
+    }
+
+    @Test
+    void testMetrics_whenAttemptsExhausted_countsFailure() {
+        assertThrows(IllegalStateException.class, testService::alwaysFail);
+
+        assertEquals(1, count("resilience.retry.calls", "alwaysFail", "failure"));
+        assertEquals(3, meterRegistry.get("resilience.retry.attempts")
+                .tag("method", METHOD + "alwaysFail").functionCounter().count());
+    }
+
+    @Test
+    void testMetrics_whenMethodIsOverloaded_countsEachOverloadSeparately() throws NoSuchMethodException {
+        testService.overloaded();
+        testService.overloaded("value");
+        testService.overloaded("value");
+
+        String noArgs = TestService.class.getMethod("overloaded").toGenericString();
+        String withArg = TestService.class.getMethod("overloaded", String.class).toGenericString();
+        assertEquals(2, meterRegistry.get("resilience.retry.calls")
+                .tag("method", METHOD + "overloaded").tag("result", "success").functionCounters().size());
+        assertEquals(1, meterRegistry.get("resilience.retry.calls")
+                .tag("signature", noArgs).tag("result", "success").functionCounter().count());
+        assertEquals(2, meterRegistry.get("resilience.retry.calls")
+                .tag("signature", withArg).tag("result", "success").functionCounter().count());
+    }
+
+    private double count(String name, String method, String result) {
+        return meterRegistry.get(name)
+                .tag("method", METHOD + method)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    @Configuration
+    static class TestConfig {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public RetryAspect retryAspect(MeterRegistry meterRegistry) {
+            return new RetryAspect(new RetryProperties(), new MicrometerRetryMetrics(meterRegistry),
+                    RetryHintExtractor.NONE, Sleeper.SYSTEM);
+        }
+
+        @Bean
+        public TestService testService() {
+            return new TestService();
+        }
+
+    }
+
+    static class TestService {
+        private int counter = 0;
+
+        @Retryable(maxAttempts = 3, backoff = 10)
+        public void succeedOnSecondAttempt() {
+            if (++counter < 2) {
+                throw new IllegalStateException("Simulated error");
+            }
+        }
+
+        @Retryable(maxAttempts = 3, backoff = 10)
+        public void alwaysFail() {
+            throw new IllegalStateException("Always failing");
+        }
+
+        @Retryable(maxAttempts = 3, backoff = 10)
+        public void overloaded() {
+        }
+
+        @Retryable(maxAttempts = 3, backoff = 10)
+        public void overloaded(String value) {
+        }
+    }
+
+}
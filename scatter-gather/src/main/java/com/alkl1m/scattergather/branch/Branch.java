@@ -0,0 +1,50 @@
+package com.alkl1m.scattergather.branch;
+
+import lombok.Getter;
+
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * Ветвь scatter-gather: именованный вызов одного downstream и необязательный fallback.
+ * <p>
+ * Политики повторов, Circuit Breaker, bulkhead и fallback применяются к ветви так же, как к любому
+ * вызову: достаточно вызывать в ветви метод Spring-бина с соответствующими аннотациями.
+ *
+ * @param <T> тип результата ветви
+ * @author AlKl1M
+ */
+@Getter
+public class Branch<T> {
+
+    private final String name;
+    private final Callable<T> call;
+    private final Function<Throwable, T> fallback;
+
+    private Branch(String name, Callable<T> call, Function<Throwable, T> fallback) {
+        this.name = name;
+        this.call = call;
+        this.fallback = fallback;
+    }
+
+    /**
+     * @param name уникальное в пределах одного вызова имя ветви
+     * @param call вызов downstream
+     * @param <T>  тип результата
+     * @return ветвь без fallback
+     */
+    public static <T> Branch<T> of(String name, Callable<T> call) {
+        return new Branch<>(name, call, null);
+    }
+
+    /**
+     * Задает значение на случай ошибки или опоздания ветви.
+     *
+     * @param fallback функция от причины: исключения ветви или {@link java.util.concurrent.TimeoutException}
+     * @return новая ветвь с fallback
+     */
+    public Branch<T> withFallback(Function<Throwable, T> fallback) {
+        return new Branch<>(name, call, fallback);
+    }
+
+}
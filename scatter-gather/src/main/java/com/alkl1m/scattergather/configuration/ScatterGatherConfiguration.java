@@ -0,0 +1,31 @@
+package com.alkl1m.scattergather.configuration;
+
+import com.alkl1m.scattergather.executor.ScatterGatherExecutor;
+import com.alkl1m.time.Ticker;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Класс автоконфигурации.
+ * <p>
+ * Регистрирует {@link ScatterGatherExecutor} на виртуальных потоках, если приложение не объявило свой.
+ * Дедлайн и время ветвей отсчитываются по бину {@link Ticker}, если он объявлен (например, виртуальное
+ * время в тестах), иначе по {@link Ticker#SYSTEM}.
+ *
+ * @author AlKl1M
+ */
+@Configuration
+public class ScatterGatherConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public ScatterGatherExecutor scatterGatherExecutor(ObjectProvider<Ticker> ticker) {
+        return new ScatterGatherExecutor(Executors.newVirtualThreadPerTaskExecutor(),
+                ticker.getIfAvailable(() -> Ticker.SYSTEM));
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.alkl1m.scattergather.enums;
+
+/**
+ * Итог ветви scatter-gather.
+ *
+ * @author AlKl1M
+ */
+public enum BranchStatus {
+
+    /**
+     * Ветвь вернула значение до общего дедлайна.
+     */
+    SUCCESS,
+
+    /**
+     * Ветвь упала или не успела, значение получено из fallback ветви.
+     */
+    FALLBACK,
+
+    /**
+     * Ветвь упала, fallback не задан. Также итог ветви, чей fallback сам выбросил исключение:
+     * исключение fallback добавляется к причине как подавленное.
+     */
+    FAILED,
+
+    /**
+     * Ветвь не успела до дедлайна и была отменена, fallback не задан.
+     */
+    TIMED_OUT
+
+}
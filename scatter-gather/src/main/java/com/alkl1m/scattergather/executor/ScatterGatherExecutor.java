@@ -0,0 +1,192 @@
+package com.alkl1m.scattergather.executor;
+
+import com.alkl1m.scattergather.branch.Branch;
+import com.alkl1m.scattergather.enums.BranchStatus;
+import com.alkl1m.scattergather.result.BranchResult;
+import com.alkl1m.scattergather.result.ScatterGatherResult;
+import com.alkl1m.time.Ticker;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Параллельный вызов нескольких downstream с общим дедлайном (scatter-gather).
+ * <p>
+ * Принцип работы:
+ * <ol>
+ *   <li>Каждая ветвь запускается в своем виртуальном потоке</li>
+ *   <li>Вызывающий поток ждет, пока завершатся все ветви или наступит дедлайн</li>
+ *   <li>Не успевшие ветви отменяются с прерыванием потока: прерывается и пауза между повторами,
+ *   и ожидание разрешения bulkhead</li>
+ *   <li>Для упавших и отмененных ветвей вызывается их fallback. Если fallback сам выбросил
+ *   исключение, ветвь получает статус {@link BranchStatus#FAILED}</li>
+ *   <li>Возвращается {@link ScatterGatherResult} с итогом каждой ветви</li>
+ * </ol>
+ * Время ответа ограничено дедлайном и примерно равно времени самой медленной успевшей ветви.
+ * Дедлайн и время ветвей отсчитываются по {@link Ticker}, поэтому с виртуальным временем
+ * истечение дедлайна проверяется без реального ожидания.
+ * <p>
+ * Отмененные ветви не дожидаются: если ветвь не реагирует на прерывание (например, блокирующий
+ * ввод-вывод без таймаута), ее поток завершится сам, не задерживая ответ. Thread-local контекст
+ * вызывающего потока (транзакция, request scope) в ветви не передается.
+ *
+ * @author AlKl1M
+ */
+public class ScatterGatherExecutor implements AutoCloseable {
+
+    /**
+     * Наибольший интервал, через который ожидание сверяет дедлайн с {@link Ticker}. С системными
+     * часами ожидание и так заканчивается к дедлайну, а виртуальное время сдвигается без уведомления.
+     */
+    private static final long DEADLINE_CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final ExecutorService executor;
+    private final Ticker ticker;
+
+    public ScatterGatherExecutor() {
+        this(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    public ScatterGatherExecutor(ExecutorService executor) {
+        this(executor, Ticker.SYSTEM);
+    }
+
+    public ScatterGatherExecutor(ExecutorService executor, Ticker ticker) {
+        this.executor = executor;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Выполняет ветви параллельно и собирает то, что успело прийти до дедлайна.
+     *
+     * @param deadline общий дедлайн всех ветвей
+     * @param branches ветви с уникальными именами
+     * @return частичный результат
+     * @throws InterruptedException если вызывающий поток прерван во время ожидания
+     */
+    public ScatterGatherResult gather(Duration deadline, List<? extends Branch<?>> branches)
+            throws InterruptedException {
+        Set<String> names = new HashSet<>();
+        List<Callable<Object>> tasks = new ArrayList<>(branches.size());
+        long[] finishedAt = new long[branches.size()];
+        Semaphore completions = new Semaphore(0);
+        for (int i = 0; i < branches.size(); i++) {
+            Branch<?> branch = branches.get(i);
+            if (!names.add(branch.getName())) {
+                throw new IllegalArgumentException("Duplicate branch name: " + branch.getName());
+            }
+            int index = i;
+            tasks.add(() -> {
+                try {
+                    return branch.getCall().call();
+                } finally {
+                    finishedAt[index] = ticker.nanoTime();
+                }
+            });
+        }
+
+        long start = ticker.nanoTime();
+        List<Future<Object>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<Object> task : tasks) {
+                FutureTask<Object> future = new FutureTask<>(task) {
+                    @Override
+                    protected void done() {
+                        completions.release();
+                    }
+                };
+                futures.add(future);
+                executor.execute(future);
+            }
+            awaitCompletions(completions, tasks.size(), start + deadline.toNanos());
+        } finally {
+            for (Future<Object> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        Map<String, BranchResult<?>> results = new LinkedHashMap<>();
+        for (int i = 0; i < branches.size(); i++) {
+            Branch<?> branch = branches.get(i);
+            results.put(branch.getName(), result(branch, futures.get(i), deadline, start, finishedAt[i]));
+        }
+        return new ScatterGatherResult(results);
+    }
+
+    /**
+     * Вариант {@link #gather(Duration, List)} для перечисления ветвей.
+     */
+    public ScatterGatherResult gather(Duration deadline, Branch<?>... branches) throws InterruptedException {
+        return gather(deadline, List.of(branches));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Ждет завершения всех ветвей или дедлайна по {@link Ticker}, что наступит раньше.
+     */
+    private void awaitCompletions(Semaphore completions, int branches, long deadlineAt) throws InterruptedException {
+        int completed = 0;
+        while (completed < branches) {
+            long remaining = deadlineAt - ticker.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            if (completions.tryAcquire(Math.min(remaining, DEADLINE_CHECK_INTERVAL_NANOS), TimeUnit.NANOSECONDS)) {
+                completed++;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> BranchResult<T> result(Branch<T> branch, Future<Object> future, Duration deadline,
+                                       long start, long finishedAt) {
+        try {
+            T value = (T) future.get();
+            return new BranchResult<>(branch.getName(), BranchStatus.SUCCESS, value, null,
+                    Duration.ofNanos(finishedAt - start));
+        } catch (CancellationException e) {
+            TimeoutException timeout = new TimeoutException(
+                    "Branch " + branch.getName() + " did not complete within " + deadline.toMillis() + " ms");
+            return failed(branch, BranchStatus.TIMED_OUT, timeout, deadline);
+        } catch (ExecutionException e) {
+            return failed(branch, BranchStatus.FAILED, e.getCause(), Duration.ofNanos(finishedAt - start));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failed(branch, BranchStatus.FAILED, e, deadline);
+        }
+    }
+
+    private <T> BranchResult<T> failed(Branch<T> branch, BranchStatus status, Throwable error, Duration latency) {
+        if (branch.getFallback() == null) {
+            return new BranchResult<>(branch.getName(), status, null, error, latency);
+        }
+        T value;
+        try {
+            value = branch.getFallback().apply(error);
+        } catch (RuntimeException fallbackError) {
+            error.addSuppressed(fallbackError);
+            return new BranchResult<>(branch.getName(), BranchStatus.FAILED, null, error, latency);
+        }
+        return new BranchResult<>(branch.getName(), BranchStatus.FALLBACK, value, error, latency);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.alkl1m.scattergather.result;
+
+import com.alkl1m.scattergather.enums.BranchStatus;
+
+import java.time.Duration;
+
+/**
+ * Результат одной ветви.
+ *
+ * @param name    имя ветви
+ * @param status  итог ветви
+ * @param value   значение ветви или fallback, null для {@link BranchStatus#FAILED} и {@link BranchStatus#TIMED_OUT}
+ * @param error   причина ошибки или опоздания, null для {@link BranchStatus#SUCCESS}
+ * @param latency время от запуска до завершения ветви (для отмененной ветви - до дедлайна)
+ * @param <T>     тип результата ветви
+ * @author AlKl1M
+ */
+public record BranchResult<T>(String name, BranchStatus status, T value, Throwable error, Duration latency) {
+
+    /**
+     * @return true если есть значение - собственное или из fallback
+     */
+    public boolean hasValue() {
+        return status == BranchStatus.SUCCESS || status == BranchStatus.FALLBACK;
+    }
+
+}
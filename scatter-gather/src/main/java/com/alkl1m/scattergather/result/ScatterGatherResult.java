@@ -0,0 +1,59 @@
+package com.alkl1m.scattergather.result;
+
+import com.alkl1m.scattergather.branch.Branch;
+import com.alkl1m.scattergather.enums.BranchStatus;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Частичный результат scatter-gather: итог каждой ветви в порядке их передачи.
+ *
+ * @author AlKl1M
+ */
+public class ScatterGatherResult {
+
+    private final Map<String, BranchResult<?>> branches;
+
+    public ScatterGatherResult(Map<String, BranchResult<?>> branches) {
+        this.branches = Collections.unmodifiableMap(branches);
+    }
+
+    /**
+     * @param branch ветвь, переданная в вызов
+     * @param <T>    тип результата ветви
+     * @return результат ветви
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BranchResult<T> get(Branch<T> branch) {
+        BranchResult<?> result = branches.get(branch.getName());
+        if (result == null) {
+            throw new IllegalArgumentException("Unknown branch: " + branch.getName());
+        }
+        return (BranchResult<T>) result;
+    }
+
+    /**
+     * @param branch ветвь, переданная в вызов
+     * @param <T>    тип результата ветви
+     * @return значение ветви или fallback, null если значения нет
+     */
+    public <T> T value(Branch<T> branch) {
+        return get(branch).value();
+    }
+
+    /**
+     * @return true если все ветви вернули собственные значения
+     */
+    public boolean isComplete() {
+        return branches.values().stream().allMatch(result -> result.status() == BranchStatus.SUCCESS);
+    }
+
+    /**
+     * @return результаты по имени ветви, только для чтения
+     */
+    public Map<String, BranchResult<?>> getBranches() {
+        return branches;
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.alkl1m.scattergather.executor;
+
+import com.alkl1m.scattergather.branch.Branch;
+import com.alkl1m.scattergather.enums.BranchStatus;
+import com.alkl1m.scattergather.result.ScatterGatherResult;
+import com.alkl1m.time.VirtualTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScatterGatherExecutorTest {
+
+    private final ScatterGatherExecutor executor = new ScatterGatherExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void testGather_whenAllBranchesComplete_returnsWithoutWaitingForDeadline() throws InterruptedException {
+        Branch<String> prices = Branch.of("prices", () -> "100");
+        Branch<Integer> stock = Branch.of("stock", () -> 7);
+
+        long start = System.nanoTime();
+        ScatterGatherResult result = executor.gather(Duration.ofSeconds(5), prices, stock);
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertTrue(result.isComplete());
+        assertEquals("100", result.value(prices));
+        assertEquals(7, result.value(stock));
+    }
+
+    @Test
+    void testGather_whenBranchIsLate_cancelsItAndReturnsPartialResult() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Branch<String> fast = Branch.of("fast", () -> "fast");
+        Branch<String> slow = Branch.of("slow", () -> {
+            try {
+                Thread.sleep(10_000);
+                return "slow";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+        });
+
+        long start = System.nanoTime();
+        ScatterGatherResult result = executor.gather(Duration.ofMillis(200), fast, slow);
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+        assertFalse(result.isComplete());
+        assertEquals("fast", result.value(fast));
+        assertEquals(BranchStatus.TIMED_OUT, result.get(slow).status());
+        assertInstanceOf(TimeoutException.class, result.get(slow).error());
+        assertNull(result.value(slow));
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testGather_whenBranchFailsOrIsLate_usesItsFallback() throws InterruptedException {
+        Branch<String> failing = Branch.<String>of("failing", () -> {
+            throw new IllegalStateException("Downstream error");
+        }).withFallback(e -> "cached:" + e.getMessage());
+        Branch<String> failingWithoutFallback = Branch.of("failing-without-fallback", () -> {
+            throw new IllegalStateException("Downstream error");
+        });
+        Branch<String> slow = Branch.<String>of("slow", () -> {
+            Thread.sleep(10_000);
+            return "slow";
+        }).withFallback(e -> "default");
+
+        ScatterGatherResult result = executor.gather(Duration.ofMillis(200), failing, failingWithoutFallback, slow);
+
+        assertEquals(BranchStatus.FALLBACK, result.get(failing).status());
+        assertEquals("cached:Downstream error", result.value(failing));
+        assertEquals(BranchStatus.FAILED, result.get(failingWithoutFallback).status());
+        assertInstanceOf(IllegalStateException.class, result.get(failingWithoutFallback).error());
+        assertEquals(BranchStatus.FALLBACK, result.get(slow).status());
+        assertEquals("default", result.value(slow));
+    }
+
+    @Test
+    void testGather_whenFallbackThrows_reportsBranchAsFailedWithSuppressedFallbackError()
+            throws InterruptedException {
+        IllegalStateException fallbackError = new IllegalStateException("Cache unavailable");
+        Branch<String> failing = Branch.<String>of("failing", () -> {
+            throw new IllegalStateException("Downstream error");
+        }).withFallback(e -> {
+            throw fallbackError;
+        });
+        Branch<String> healthy = Branch.of("healthy", () -> "healthy");
+
+        ScatterGatherResult result = executor.gather(Duration.ofSeconds(5), failing, healthy);
+
+        assertEquals(BranchStatus.FAILED, result.get(failing).status());
+        assertNull(result.value(failing));
+        assertEquals("Downstream error", result.get(failing).error().getMessage());
+        assertArrayEquals(new Throwable[]{fallbackError}, result.get(failing).error().getSuppressed());
+        assertEquals("healthy", result.value(healthy));
+    }
+
+    @Test
+    void testGather_withVirtualTime_measuresLatencyAndDeadlineByTicker() throws InterruptedException {
+        VirtualTime time = new VirtualTime();
+        try (ScatterGatherExecutor virtualExecutor =
+                     new ScatterGatherExecutor(Executors.newVirtualThreadPerTaskExecutor(), time)) {
+            Branch<String> timely = Branch.of("timely", () -> {
+                time.advance(Duration.ofMillis(300));
+                return "timely";
+            });
+
+            ScatterGatherResult result = virtualExecutor.gather(Duration.ofSeconds(1), timely);
+
+            assertEquals(BranchStatus.SUCCESS, result.get(timely).status());
+            assertEquals(Duration.ofMillis(300), result.get(timely).latency());
+
+            Branch<String> late = Branch.of("late", () -> {
+                time.advance(Duration.ofHours(2));
+                Thread.sleep(10_000);
+                return "late";
+            });
+
+            long start = System.nanoTime();
+            result = virtualExecutor.gather(Duration.ofHours(1), late);
+
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+            assertEquals(BranchStatus.TIMED_OUT, result.get(late).status());
+            assertEquals(Duration.ofHours(1), result.get(late).latency());
+        }
+    }
+
+    @Test
+    void testGather_whenBranchNamesRepeat_throws() {
+        assertThrows(IllegalArgumentException.class, () -> executor.gather(Duration.ofSeconds(1),
+                Branch.of("same", () -> 1), Branch.of("same", () -> 2)));
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.alkl1m.scattergather.executor;
+
+import com.alkl1m.retry.annotation.Retryable;
+import com.alkl1m.retry.aspect.RetryAspect;
+import com.alkl1m.scattergather.branch.Branch;
+import com.alkl1m.scattergather.enums.BranchStatus;
+import com.alkl1m.scattergather.result.ScatterGatherResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = {RetryAspect.class, ScatterGatherExecutor.class, ScatterGatherPolicyTest.TestService.class})
+@EnableAspectJAutoProxy
+class ScatterGatherPolicyTest {
+
+    @Autowired
+    private ScatterGatherExecutor executor;
+
+    @Autowired
+    private TestService testService;
+
+    @Test
+    void whenBranchCallsRetryableMethod_thenRetryPolicyAppliesWithinDeadline() throws InterruptedException {
+        Branch<String> flaky = Branch.of("flaky", testService::flaky);
+        Branch<String> stable = Branch.of("stable", () -> "stable");
+
+        ScatterGatherResult result = executor.gather(Duration.ofSeconds(2), flaky, stable);
+
+        assertEquals(BranchStatus.SUCCESS, result.get(flaky).status());
+        assertEquals("recovered", result.value(flaky));
+        assertEquals(2, testService.getAttempts());
+    }
+
+    @Test
+    void whenRetryBackoffExceedsDeadline_thenBranchIsCancelled() throws InterruptedException {
+        Branch<String> slowRetry = Branch.<String>of("slow-retry", testService::alwaysFailing)
+                .withFallback(e -> "fallback");
+
+        ScatterGatherResult result = executor.gather(Duration.ofMillis(200), slowRetry);
+
+        assertEquals(BranchStatus.FALLBACK, result.get(slowRetry).status());
+        assertEquals("fallback", result.value(slowRetry));
+    }
+
+    @Service
+    static class TestService {
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        @Retryable(maxAttempts = 3, backoff = 10)
+        public String flaky() {
+            if (attempts.incrementAndGet() < 2) {
+                throw new IllegalStateException("Transient error");
+            }
+            return "recovered";
+        }
+
+        @Retryable(maxAttempts = 3, backoff = 10_000)
+        public String alwaysFailing() {
+            throw new IllegalStateException("Permanent error");
+        }
+
+        public int getAttempts() {
+            return attempts.get();
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.alkl1m.time;
+
+/**
+ * Пауза текущего потока, например между попытками повтора.
+ *
+ * @author AlKl1M
+ */
+@FunctionalInterface
+public interface Sleeper {
+
+    Sleeper SYSTEM = Thread::sleep;
+
+    /**
+     * @param millis длительность паузы в миллисекундах
+     * @throws InterruptedException если поток прерван во время паузы
+     */
+    void sleep(long millis) throws InterruptedException;
+
+}
@@ -0,0 +1,23 @@
+package com.alkl1m.time;
+
+/**
+ * Монотонный источник времени для решений, зависящих от интервалов: таймаут Circuit Breaker,
+ * задержки и EWMA балансировщика.
+ * <p>
+ * В отличие от {@link System#currentTimeMillis()}, значение не скачет при коррекции системных
+ * часов (NTP), поэтому цепь не откроется и не зависнет в OPEN из-за перевода часов.
+ * Значения имеют смысл только как разность двух отсчетов одного источника.
+ *
+ * @author AlKl1M
+ */
+@FunctionalInterface
+public interface Ticker {
+
+    Ticker SYSTEM = System::nanoTime;
+
+    /**
+     * @return текущее значение в наносекундах
+     */
+    long nanoTime();
+
+}
@@ -0,0 +1,115 @@
+package com.alkl1m.time;
+
+import java.time.Duration;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Виртуальное время для тестов и симуляций.
+ * <p>
+ * Время идет только при вызове {@link #advance(Duration)} или {@link #sleep(long)}: пауза не блокирует
+ * поток, а сразу сдвигает часы. Задачи, отложенные через {@link #schedule(Duration, Runnable)},
+ * выполняются в вызывающем потоке в порядке их сроков (при равных сроках - в порядке постановки),
+ * и на время выполнения задачи часы показывают ее срок. Поэтому часы сбоя и восстановления
+ * проигрываются за миллисекунды, а результат не зависит от планировщика ОС.
+ * <p>
+ * Рассчитано на один управляющий поток: если несколько потоков одновременно вызывают
+ * {@link #sleep(long)}, каждый из них сдвигает общие часы.
+ *
+ * @author AlKl1M
+ */
+public class VirtualTime implements Ticker, Sleeper {
+
+    private final PriorityQueue<ScheduledTask> tasks = new PriorityQueue<>();
+    private long nanos;
+    private long sequence;
+
+    public VirtualTime() {
+        this(0);
+    }
+
+    /**
+     * @param startNanos начальное показание часов
+     */
+    public VirtualTime(long startNanos) {
+        this.nanos = startNanos;
+    }
+
+    @Override
+    public synchronized long nanoTime() {
+        return nanos;
+    }
+
+    /**
+     * Сдвигает часы на {@code millis}, выполняя задачи, срок которых наступил.
+     */
+    @Override
+    public void sleep(long millis) {
+        advance(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * Сдвигает часы, выполняя задачи, срок которых наступил.
+     *
+     * @param duration сдвиг
+     */
+    public void advance(Duration duration) {
+        advance(duration.toNanos());
+    }
+
+    /**
+     * Сдвигает часы, выполняя задачи, срок которых наступил.
+     *
+     * @param deltaNanos сдвиг в наносекундах
+     */
+    public void advance(long deltaNanos) {
+        if (deltaNanos < 0) {
+            throw new IllegalArgumentException("Virtual time cannot go backwards: " + deltaNanos);
+        }
+        long target;
+        synchronized (this) {
+            target = nanos + deltaNanos;
+        }
+        while (true) {
+            ScheduledTask task;
+            synchronized (this) {
+                task = tasks.peek();
+                if (task == null || task.deadline > target) {
+                    nanos = Math.max(nanos, target);
+                    return;
+                }
+                tasks.poll();
+                nanos = Math.max(nanos, task.deadline);
+            }
+            task.action.run();
+        }
+    }
+
+    /**
+     * Откладывает задачу на {@code delay} виртуального времени.
+     *
+     * @param delay  задержка
+     * @param action задача
+     */
+    public synchronized void schedule(Duration delay, Runnable action) {
+        tasks.add(new ScheduledTask(nanos + delay.toNanos(), sequence++, action));
+    }
+
+    /**
+     * @return количество отложенных задач, еще не выполненных
+     */
+    public synchronized int pendingTasks() {
+        return tasks.size();
+    }
+
+    private record ScheduledTask(long deadline, long sequence, Runnable action) implements Comparable<ScheduledTask> {
+
+        @Override
+        public int compareTo(ScheduledTask other) {
+            int byDeadline = Long.compare(deadline, other.deadline);
+            return byDeadline != 0 ? byDeadline : Long.compare(sequence, other.sequence);
+        }
+
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.alkl1m.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualTimeTest {
+
+    @Test
+    void testSleep_advancesClockWithoutBlocking() {
+        VirtualTime time = new VirtualTime();
+        long start = System.nanoTime();
+
+        time.sleep(Duration.ofHours(5).toMillis());
+
+        assertEquals(Duration.ofHours(5).toNanos(), time.nanoTime());
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    void testAdvance_runsDueTasksInDeadlineOrderAtTheirDeadline() {
+        VirtualTime time = new VirtualTime();
+        List<String> executed = new ArrayList<>();
+        time.schedule(Duration.ofSeconds(3), () -> executed.add("c@" + time.nanoTime()));
+        time.schedule(Duration.ofSeconds(1), () -> {
+            executed.add("a@" + time.nanoTime());
+            time.schedule(Duration.ofSeconds(1), () -> executed.add("b@" + time.nanoTime()));
+        });
+        time.schedule(Duration.ofSeconds(10), () -> executed.add("late"));
+
+        time.advance(Duration.ofSeconds(5));
+
+        assertEquals(List.of("a@1000000000", "b@2000000000", "c@3000000000"), executed);
+        assertEquals(Duration.ofSeconds(5).toNanos(), time.nanoTime());
+        assertEquals(1, time.pendingTasks());
+    }
+
+    @Test
+    void testAdvance_whenNegative_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new VirtualTime().advance(-1));
+    }
+
+}